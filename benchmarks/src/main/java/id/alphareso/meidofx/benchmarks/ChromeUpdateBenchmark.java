@@ -0,0 +1,117 @@
+package id.alphareso.meidofx.benchmarks;
+
+import id.alphareso.meidofx.base.enums.TitleBarStyle;
+import id.alphareso.meidofx.base.stages.RoundStage;
+import id.alphareso.meidofx.base.titles.TitleBar;
+import javafx.scene.paint.Color;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of restyling the chrome of a showing window: toggling the title bar style and changing
+ * the window background. The "WithLayout" variants also run CSS and layout of the affected
+ * nodes, as the next pulse would.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ChromeUpdateBenchmark {
+    private static final int BATCH = 256;
+    private static final TitleBarStyle[] STYLES = TitleBarStyle.values();
+    private static final Color[] COLORS = {
+            Color.WHITE, Color.BLACK, Color.GREY, Color.LIGHTSKYBLUE,
+            Color.web("#f06414"), Color.web("#212121"), Color.web("#eceff1"), Color.web("#e74c3c")
+    };
+
+    private RoundStage stage;
+    private TitleBar titleBar;
+    private int styleIndex;
+    private int colorIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        FxPlatform.start();
+        FxPlatform.run(() -> {
+            stage = new RoundStage(800, 600, 20);
+            titleBar = new TitleBar(stage, TitleBarStyle.ALL);
+            stage.setTitle("Benchmark");
+            stage.setTitleBar(titleBar);
+            stage.show();
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        FxPlatform.run(stage::dispose);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void setTitleBarStyle() {
+        FxPlatform.run(() -> {
+            for (int i = 0; i < BATCH; i++) {
+                titleBar.setTitleBarStyle(nextStyle());
+            }
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void setTitleBarStyleWithLayout() {
+        FxPlatform.run(() -> {
+            for (int i = 0; i < BATCH; i++) {
+                titleBar.setTitleBarStyle(nextStyle());
+                titleBar.applyCss();
+                titleBar.layout();
+            }
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void setBackgroundColor() {
+        FxPlatform.run(() -> {
+            for (int i = 0; i < BATCH; i++) {
+                stage.setBackgroundColor(nextColor());
+            }
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void setBackgroundColorWithLayout() {
+        FxPlatform.run(() -> {
+            for (int i = 0; i < BATCH; i++) {
+                stage.setBackgroundColor(nextColor());
+                stage.getRoot().applyCss();
+                stage.getRoot().layout();
+            }
+        });
+    }
+
+    private TitleBarStyle nextStyle() {
+        styleIndex = (styleIndex + 1) % STYLES.length;
+        return STYLES[styleIndex];
+    }
+
+    private Color nextColor() {
+        colorIndex = (colorIndex + 1) % COLORS.length;
+        return COLORS[colorIndex];
+    }
+}
@@ -0,0 +1,136 @@
+package id.alphareso.meidofx.benchmarks;
+
+import id.alphareso.meidofx.base.controls.WindowControlButtons;
+import id.alphareso.meidofx.base.enums.ChromeConstruction;
+import id.alphareso.meidofx.base.enums.ControlGlyphStyle;
+import id.alphareso.meidofx.base.enums.TitleBarStyle;
+import id.alphareso.meidofx.base.stages.BaseStage;
+import id.alphareso.meidofx.base.stages.RoundStage;
+import id.alphareso.meidofx.base.titles.TitleBar;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Construction cost of the window chrome. Each invocation builds a batch of components on the
+ * FX thread, so the hand-off to the FX thread is spread over the batch; run with the GC
+ * profiler (the default of the benchmark jar) to see the allocation per component.
+ * <p>
+ * Stages are not shown. Everything built in an invocation is disposed afterwards, outside the
+ * measurement.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConstructionBenchmark {
+    private static final int BATCH = 16;
+
+    private final List<BaseStage> stages = new ArrayList<>(BATCH);
+    private RoundStage owner;
+
+    @Setup(Level.Trial)
+    public void startToolkit() {
+        FxPlatform.start();
+    }
+
+    @Setup(Level.Invocation)
+    public void createOwner() {
+        // Title bars register a dispose hook on their stage, so each batch gets a fresh owner
+        owner = FxPlatform.call(() -> new RoundStage(400, 300, 20, ChromeConstruction.LAZY));
+    }
+
+    @TearDown(Level.Invocation)
+    public void disposeCreated() {
+        FxPlatform.run(() -> {
+            for (BaseStage stage : stages) {
+                stage.dispose();
+            }
+            stages.clear();
+            owner.dispose();
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void baseStage(Blackhole blackhole) {
+        FxPlatform.run(() -> {
+            for (int i = 0; i < BATCH; i++) {
+                BaseStage stage = new BaseStage(300, 200);
+                stages.add(stage);
+                blackhole.consume(stage);
+            }
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void roundStageEager(Blackhole blackhole) {
+        FxPlatform.run(() -> {
+            for (int i = 0; i < BATCH; i++) {
+                RoundStage stage = new RoundStage(800, 600, 20, ChromeConstruction.EAGER);
+                stages.add(stage);
+                blackhole.consume(stage);
+            }
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void roundStageLazy(Blackhole blackhole) {
+        FxPlatform.run(() -> {
+            for (int i = 0; i < BATCH; i++) {
+                RoundStage stage = new RoundStage(800, 600, 20, ChromeConstruction.LAZY);
+                stages.add(stage);
+                blackhole.consume(stage);
+            }
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void titleBar(Blackhole blackhole) {
+        FxPlatform.run(() -> {
+            for (int i = 0; i < BATCH; i++) {
+                blackhole.consume(new TitleBar(owner, TitleBarStyle.ALL));
+            }
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void windowControlButtonsRaster(Blackhole blackhole) {
+        FxPlatform.run(() -> {
+            for (int i = 0; i < BATCH; i++) {
+                blackhole.consume(new WindowControlButtons(owner, ControlGlyphStyle.RASTER));
+            }
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void windowControlButtonsVector(Blackhole blackhole) {
+        FxPlatform.run(() -> {
+            for (int i = 0; i < BATCH; i++) {
+                blackhole.consume(new WindowControlButtons(owner, ControlGlyphStyle.VECTOR));
+            }
+        });
+    }
+}
@@ -0,0 +1,155 @@
+package id.alphareso.meidofx.benchmarks;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Stored reference measurements of the {@link FrameTimeSuite}, one property per session and
+ * metric, e.g. {@code title-bar-drag.frame.p95=16.9}.
+ * <p>
+ * A measurement regresses when it exceeds its baseline by more than the relative tolerance.
+ * Times get an additional absolute slack, so sub-millisecond jitter of a fast pulse does not
+ * fail the build. Metrics without a baseline are counted separately by {@link #countMissing},
+ * which the suite treats as a failure unless it is recording a new baseline.
+ */
+final class FrameTimeBaseline {
+    static final double DEFAULT_TOLERANCE = 0.20;
+
+    private static final double TIME_SLACK_MILLIS = 1.0;
+    private static final String HEADER = "MeidoFX frame-time baseline. Regenerate with -Dframetime.update=true "
+            + "on the machine that runs the suite; values depend on the hardware.";
+
+    private final Path file;
+    private final Properties values = new Properties();
+
+    private FrameTimeBaseline(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Reads a baseline file. A missing file is an empty baseline.
+     *
+     * @param file The baseline file
+     * @return The baseline
+     * @throws IOException if the file cannot be read
+     */
+    static FrameTimeBaseline load(Path file) throws IOException {
+        FrameTimeBaseline baseline = new FrameTimeBaseline(file);
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            baseline.values.load(reader);
+        } catch (NoSuchFileException e) {
+            // Belum ada baseline, semua metrik dihitung sebagai hilang
+        }
+        return baseline;
+    }
+
+    /**
+     * Gets the tolerance stored in the baseline.
+     *
+     * @return The relative tolerance
+     */
+    double getTolerance() {
+        String tolerance = values.getProperty("tolerance");
+        return tolerance != null ? Double.parseDouble(tolerance) : DEFAULT_TOLERANCE;
+    }
+
+    /**
+     * Compares session results against the baseline.
+     *
+     * @param results The session results
+     * @param tolerance The relative tolerance
+     * @return Descriptions of the regressions, empty if there are none
+     */
+    List<String> compare(List<SessionResult> results, double tolerance) {
+        List<String> regressions = new ArrayList<>();
+        for (SessionResult result : results) {
+            for (Map.Entry<String, Double> metric : result.metrics().entrySet()) {
+                String key = result.name() + "." + metric.getKey();
+                String stored = values.getProperty(key);
+                if (stored == null) {
+                    continue;
+                }
+                double baseline = Double.parseDouble(stored);
+                double slack = isTime(metric.getKey()) ? TIME_SLACK_MILLIS : 0;
+                double limit = baseline * (1 + tolerance) + slack;
+                if (metric.getValue() > limit) {
+                    regressions.add(String.format(Locale.ROOT, "%s: %.2f exceeds baseline %.2f (limit %.2f)",
+                            key, metric.getValue(), baseline, limit));
+                }
+            }
+        }
+        return regressions;
+    }
+
+    /**
+     * Gets the number of metrics of the results that have no baseline.
+     *
+     * @param results The session results
+     * @return The number of metrics without a baseline
+     */
+    int countMissing(List<SessionResult> results) {
+        int missing = 0;
+        for (SessionResult result : results) {
+            for (String metric : result.metrics().keySet()) {
+                if (values.getProperty(result.name() + "." + metric) == null) {
+                    missing++;
+                }
+            }
+        }
+        return missing;
+    }
+
+    /**
+     * Replaces the baseline with the given results and writes it to its file.
+     *
+     * @param results The session results
+     * @param tolerance The tolerance to store
+     * @throws IOException if the file cannot be written
+     */
+    void update(List<SessionResult> results, double tolerance) throws IOException {
+        values.clear();
+        values.setProperty("tolerance", String.format(Locale.ROOT, "%.2f", tolerance));
+        for (SessionResult result : results) {
+            for (Map.Entry<String, Double> metric : result.metrics().entrySet()) {
+                values.setProperty(result.name() + "." + metric.getKey(),
+                        String.format(Locale.ROOT, "%.3f", metric.getValue()));
+            }
+        }
+
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        // Diurutkan agar diff baseline mudah dibaca
+        StringBuilder content = new StringBuilder("# ").append(HEADER).append(System.lineSeparator());
+        for (Map.Entry<String, String> entry : sorted().entrySet()) {
+            content.append(entry.getKey()).append('=').append(entry.getValue()).append(System.lineSeparator());
+        }
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write(content.toString());
+        }
+    }
+
+    private Map<String, String> sorted() {
+        Map<String, String> sorted = new TreeMap<>();
+        for (String key : values.stringPropertyNames()) {
+            sorted.put(key, values.getProperty(key));
+        }
+        return sorted;
+    }
+
+    private static boolean isTime(String metric) {
+        return metric.startsWith("frame.") || metric.startsWith("pulse.");
+    }
+}
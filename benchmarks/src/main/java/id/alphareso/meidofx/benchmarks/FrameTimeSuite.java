@@ -0,0 +1,198 @@
+package id.alphareso.meidofx.benchmarks;
+
+import id.alphareso.meidofx.base.diagnostics.FrameTimeRecorder;
+import id.alphareso.meidofx.base.enums.TitleBarStyle;
+import id.alphareso.meidofx.base.stages.ContentRouter;
+import id.alphareso.meidofx.base.stages.RoundStage;
+import id.alphareso.meidofx.base.titles.TitleBar;
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.geometry.Insets;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.TextField;
+import javafx.scene.layout.VBox;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Headless frame-time regression suite.
+ * <p>
+ * Plays back scripted sessions ({@link InteractionSession#defaults(int)}) on a window with the
+ * default chrome, one step per pulse. Each session is played once to warm up and once
+ * measured. A {@link FrameTimeRecorder} collects per-pulse frame times and layout pass
+ * counts, and the bytes allocated on the FX thread are taken from the JVM. The results are
+ * compared with a stored baseline and the process exits with status 1 on a regression or when a
+ * metric has no baseline value, which fails the Maven build of the {@code frame-time} profile.
+ * <p>
+ * Usage: {@code FrameTimeSuite <baseline file> [--tolerance=0.2] [--update-baseline=true]}
+ */
+public final class FrameTimeSuite {
+    private static final int PAGE_COUNT = 6;
+    private static final long SESSION_TIMEOUT_SECONDS = 60;
+
+    private FrameTimeSuite() {}
+
+    /**
+     * Runs the suite.
+     *
+     * @param args The baseline file, followed by options
+     * @throws Exception if the suite cannot run
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            System.err.println("Usage: FrameTimeSuite <baseline file> [--tolerance=0.2] [--update-baseline=true]");
+            System.exit(2);
+        }
+        Path baselineFile = Path.of(args[0]);
+        FrameTimeBaseline baseline = FrameTimeBaseline.load(baselineFile);
+        double tolerance = baseline.getTolerance();
+        boolean update = false;
+        for (int i = 1; i < args.length; i++) {
+            if (args[i].startsWith("--tolerance=")) {
+                tolerance = Double.parseDouble(args[i].substring("--tolerance=".length()));
+            } else if (args[i].startsWith("--update-baseline=")) {
+                update = Boolean.parseBoolean(args[i].substring("--update-baseline=".length()));
+            }
+        }
+
+        FxPlatform.start();
+        RoundStage stage = FxPlatform.call(FrameTimeSuite::createWindow);
+        List<SessionResult> results = new ArrayList<>();
+        for (InteractionSession session : InteractionSession.defaults(PAGE_COUNT)) {
+            play(stage, session);
+            results.add(play(stage, session));
+        }
+        FxPlatform.run(stage::dispose);
+        print(results);
+
+        int status = 0;
+        if (update) {
+            baseline.update(results, tolerance);
+            System.out.println("Baseline written to " + baselineFile);
+        } else {
+            int missing = baseline.countMissing(results);
+            if (missing > 0) {
+                System.out.println("MISSING " + missing
+                        + " metric(s) have no baseline; run with --update-baseline=true to record them");
+            }
+            List<String> regressions = baseline.compare(results, tolerance);
+            for (String regression : regressions) {
+                System.out.println("REGRESSION " + regression);
+            }
+            status = regressions.isEmpty() && missing == 0 ? 0 : 1;
+        }
+
+        Platform.exit();
+        System.exit(status);
+    }
+
+    private static RoundStage createWindow() {
+        RoundStage stage = new RoundStage(400, 300, 20);
+        stage.setTitle("Frame-time suite");
+        stage.setTitleBar(new TitleBar(stage, TitleBarStyle.ALL));
+        stage.getResizeHandler().enableBorderResize(stage.getRoot());
+
+        VBox navigation = new VBox(10);
+        navigation.setPadding(new Insets(10));
+        ContentRouter router = stage.getContentRouter();
+        for (int i = 0; i < PAGE_COUNT; i++) {
+            String key = "page-" + i;
+            router.register(key, () -> createPage(key));
+            Button button = new Button("Page " + i);
+            button.setOnAction(event -> router.navigate(key));
+            navigation.getChildren().add(button);
+        }
+        stage.addNavigationContent(navigation);
+        router.navigate("page-0");
+
+        resetWindow(stage);
+        stage.show();
+        return stage;
+    }
+
+    private static VBox createPage(String name) {
+        VBox page = new VBox(10);
+        page.setPadding(new Insets(20));
+        page.getStyleClass().add("content-panel");
+        Label title = new Label(name);
+        title.getStyleClass().add("content-title");
+        page.getChildren().add(title);
+        for (int i = 0; i < 20; i++) {
+            page.getChildren().add(new Label("Row " + i + " of " + name));
+        }
+        page.getChildren().addAll(new TextField(), new Button("Action"));
+        return page;
+    }
+
+    private static void resetWindow(RoundStage stage) {
+        stage.setMaximized(false);
+        stage.setX(200);
+        stage.setY(100);
+        stage.setWidth(800);
+        stage.setHeight(600);
+    }
+
+    private static SessionResult play(RoundStage stage, InteractionSession session)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        CompletableFuture<SessionResult> result = new CompletableFuture<>();
+        FxPlatform.run(() -> {
+            resetWindow(stage);
+            stage.getContentRouter().navigate("page-0");
+
+            FrameTimeRecorder recorder = new FrameTimeRecorder(stage.getScene());
+            com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+            new AnimationTimer() {
+                private int step = -1;
+                private long allocatedBefore;
+
+                @Override
+                public void handle(long now) {
+                    try {
+                        if (step < 0) {
+                            // Satu pulse untuk menerapkan reset jendela sebelum pengukuran
+                            session.begin(stage);
+                            allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+                            recorder.start();
+                        } else if (step < session.getSteps()) {
+                            session.step(stage, step);
+                        } else {
+                            stop();
+                            recorder.stop();
+                            long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+                            result.complete(new SessionResult(session.getName(), session.getInteractionCount(),
+                                    recorder.getFrameStats(), recorder.getPulseStats(),
+                                    recorder.getLayoutPassCount(), allocated));
+                        }
+                        step++;
+                    } catch (RuntimeException e) {
+                        stop();
+                        recorder.stop();
+                        result.completeExceptionally(e);
+                    }
+                }
+            }.start();
+        });
+        return result.get(SESSION_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    private static void print(List<SessionResult> results) {
+        System.out.println(String.format(Locale.ROOT, "%-20s %9s %9s %9s %9s %8s %12s",
+                "session", "frame p95", "frame p99", "pulse p95", "pulse p99", "layouts", "B/interact"));
+        for (SessionResult result : results) {
+            System.out.println(String.format(Locale.ROOT, "%-20s %9.2f %9.2f %9.2f %9.2f %8d %12.0f",
+                    result.name(), result.frames().p95(), result.frames().p99(),
+                    result.pulses().p95(), result.pulses().p99(),
+                    result.layoutPasses(), result.allocationPerInteraction()));
+        }
+    }
+}
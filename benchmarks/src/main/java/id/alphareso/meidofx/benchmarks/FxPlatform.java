@@ -0,0 +1,96 @@
+package id.alphareso.meidofx.benchmarks;
+
+import javafx.application.Platform;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Starts a headless JavaFX toolkit and runs benchmark code on the FX thread.
+ * <p>
+ * The toolkit uses the Monocle headless glass platform and the software pipeline, so the
+ * benchmarks run on build machines without a display or GPU. Properties passed on the command
+ * line take precedence.
+ */
+final class FxPlatform {
+    private static boolean started;
+
+    private FxPlatform() {}
+
+    /**
+     * Starts the toolkit once per JVM.
+     */
+    static synchronized void start() {
+        if (started) {
+            return;
+        }
+        setDefault("glass.platform", "Monocle");
+        setDefault("monocle.platform", "Headless");
+        setDefault("prism.order", "sw");
+        setDefault("java.awt.headless", "true");
+
+        CountDownLatch latch = new CountDownLatch(1);
+        Platform.startup(latch::countDown);
+        Platform.setImplicitExit(false);
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while starting JavaFX", e);
+        }
+        started = true;
+    }
+
+    /**
+     * Runs a task on the FX thread and waits for it.
+     *
+     * @param task The task
+     */
+    static void run(Runnable task) {
+        call(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Runs a task on the FX thread and waits for its result.
+     *
+     * @param task The task
+     * @param <T> The result type
+     * @return The result of the task
+     */
+    static <T> T call(Callable<T> task) {
+        if (Platform.isFxApplicationThread()) {
+            try {
+                return task.call();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Platform.runLater(() -> {
+            try {
+                result.complete(task.call());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the FX thread", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static void setDefault(String key, String value) {
+        if (System.getProperty(key) == null) {
+            System.setProperty(key, value);
+        }
+    }
+}
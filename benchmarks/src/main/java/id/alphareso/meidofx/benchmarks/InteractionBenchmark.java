@@ -0,0 +1,144 @@
+package id.alphareso.meidofx.benchmarks;
+
+import id.alphareso.meidofx.base.enums.TitleBarStyle;
+import id.alphareso.meidofx.base.handlers.WindowDragHandler;
+import id.alphareso.meidofx.base.handlers.WindowResizeHandler;
+import id.alphareso.meidofx.base.stages.RoundStage;
+import id.alphareso.meidofx.base.titles.TitleBar;
+import javafx.event.Event;
+import javafx.event.EventType;
+import javafx.geometry.Bounds;
+import javafx.scene.Node;
+import javafx.scene.input.MouseEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the window interaction handlers for synthetic mouse streams: a drag gesture on
+ * the title bar (set up through {@link WindowDragHandler}), a resize gesture on the window
+ * border (enabled through {@link WindowResizeHandler#enableBorderResize}) and plain pointer
+ * movement over the window.
+ * <p>
+ * Each invocation dispatches one gesture of {@value #STEPS} events through the scene on the
+ * FX thread. The events are created once in the setup, so only dispatching and handling is
+ * measured. Moves and resizes are coalesced by the geometry scheduler and applied in the next
+ * pulse, and every gesture ends where it started, so the window keeps its bounds.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InteractionBenchmark {
+    private static final int STEPS = 1000;
+    private static final double AMPLITUDE = 40;
+
+    private RoundStage stage;
+    private Node dragArea;
+    private MouseEvent[] dragEvents;
+    private MouseEvent[] resizeEvents;
+    private MouseEvent[] moveEvents;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        FxPlatform.start();
+        FxPlatform.run(() -> {
+            stage = new RoundStage(400, 300, 20);
+            stage.setX(100);
+            stage.setY(100);
+            stage.setWidth(800);
+            stage.setHeight(600);
+
+            TitleBar titleBar = new TitleBar(stage, TitleBarStyle.ALL);
+            stage.setTitleBar(titleBar);
+            stage.getResizeHandler().enableBorderResize(stage.getRoot());
+            stage.show();
+            stage.getScene().getRoot().applyCss();
+            stage.getScene().getRoot().layout();
+
+            dragArea = titleBar.lookup(".title-bar-drag-area");
+            Bounds bounds = dragArea.localToScene(dragArea.getLayoutBounds());
+            dragEvents = gesture(dragArea, bounds.getCenterX(), bounds.getCenterY());
+
+            double width = stage.getScene().getWidth();
+            double height = stage.getScene().getHeight();
+            resizeEvents = gesture(stage.getRoot(), width - 2, height - 2);
+
+            moveEvents = new MouseEvent[STEPS];
+            for (int i = 0; i < STEPS; i++) {
+                double sceneX = width / 2 + offset(i);
+                double sceneY = height / 2 + offset(i + STEPS / 4);
+                moveEvents[i] = event(MouseEvent.MOUSE_MOVED, stage.getRoot(), sceneX, sceneY, false);
+            }
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        FxPlatform.run(stage::dispose);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(STEPS)
+    public long dragStream() {
+        return FxPlatform.call(() -> dispatch(dragArea, dragEvents));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(STEPS)
+    public long resizeStream() {
+        return FxPlatform.call(() -> dispatch(stage.getRoot(), resizeEvents));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(STEPS)
+    public long moveStream() {
+        return FxPlatform.call(() -> dispatch(stage.getRoot(), moveEvents));
+    }
+
+    private long dispatch(Node target, MouseEvent[] events) {
+        for (MouseEvent event : events) {
+            Event.fireEvent(target, event);
+        }
+        return stage.getInteractionController().getInteractionEventCount();
+    }
+
+    /**
+     * Builds a press, {@value #STEPS} drags and a release, starting and ending at the given
+     * scene position.
+     */
+    private MouseEvent[] gesture(Node target, double sceneX, double sceneY) {
+        MouseEvent[] events = new MouseEvent[STEPS + 2];
+        events[0] = event(MouseEvent.MOUSE_PRESSED, target, sceneX, sceneY, true);
+        for (int i = 1; i <= STEPS; i++) {
+            double dx = offset(i);
+            double dy = offset(i + STEPS / 4) - offset(STEPS / 4);
+            events[i] = event(MouseEvent.MOUSE_DRAGGED, target, sceneX + dx, sceneY + dy, true);
+        }
+        events[STEPS + 1] = event(MouseEvent.MOUSE_RELEASED, target, sceneX, sceneY, false);
+        return events;
+    }
+
+    private MouseEvent event(EventType<MouseEvent> type, Node target, double sceneX, double sceneY, boolean primaryDown) {
+        return SyntheticMouse.event(type, target, sceneX, sceneY,
+                stage.getX() + sceneX, stage.getY() + sceneY, primaryDown);
+    }
+
+    private static double offset(int step) {
+        return AMPLITUDE * Math.sin(2 * Math.PI * step / STEPS);
+    }
+}
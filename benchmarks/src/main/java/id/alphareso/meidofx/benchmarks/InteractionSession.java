@@ -0,0 +1,243 @@
+package id.alphareso.meidofx.benchmarks;
+
+import id.alphareso.meidofx.base.enums.ResizeEdge;
+import id.alphareso.meidofx.base.stages.RoundStage;
+import javafx.geometry.Bounds;
+import javafx.scene.Node;
+import javafx.scene.input.MouseEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A scripted user session, played back one step per pulse by the {@link FrameTimeSuite}.
+ * <p>
+ * Sessions drive the window the way a user would: mouse events go through the scene and its
+ * interaction handlers, and window state changes go through the stage. Pointer positions are
+ * computed from where the gesture started, so they stay consistent while the window moves.
+ */
+abstract class InteractionSession {
+    private static final int FRAMES_PER_SECOND = 60;
+
+    private final String name;
+    private final int steps;
+
+    /**
+     * Creates a session.
+     *
+     * @param name The session name, used as baseline key
+     * @param steps The number of pulses the session runs
+     */
+    InteractionSession(String name, int steps) {
+        this.name = name;
+        this.steps = steps;
+    }
+
+    /**
+     * Gets the session name.
+     *
+     * @return The name
+     */
+    String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the number of pulses the session runs.
+     *
+     * @return The step count
+     */
+    int getSteps() {
+        return steps;
+    }
+
+    /**
+     * Gets the number of user interactions (events or actions) in the session.
+     *
+     * @return The interaction count
+     */
+    int getInteractionCount() {
+        return steps;
+    }
+
+    /**
+     * Prepares the session before its first step.
+     *
+     * @param stage The session window
+     */
+    void begin(RoundStage stage) {
+    }
+
+    /**
+     * Plays one step of the session.
+     *
+     * @param stage The session window
+     * @param step The step index, from 0
+     */
+    abstract void step(RoundStage stage, int step);
+
+    /**
+     * Creates the default set of sessions: a five second title bar drag, a resize from each of
+     * the eight edges, maximize and restore cycles, and rapid page switching.
+     *
+     * @param pageCount The number of pages registered on the window's content router
+     * @return The sessions
+     */
+    static List<InteractionSession> defaults(int pageCount) {
+        List<InteractionSession> sessions = new ArrayList<>();
+        sessions.add(titleBarDrag(5 * FRAMES_PER_SECOND));
+        for (ResizeEdge edge : ResizeEdge.values()) {
+            if (edge != ResizeEdge.NONE) {
+                sessions.add(edgeResize(edge, 90));
+            }
+        }
+        sessions.add(maximizeRestore(20, 6));
+        sessions.add(pageSwitching(5 * FRAMES_PER_SECOND, pageCount));
+        return sessions;
+    }
+
+    /**
+     * Drags the window by its title bar in a circle, one drag event per pulse.
+     *
+     * @param steps The number of pulses
+     * @return The session
+     */
+    static InteractionSession titleBarDrag(int steps) {
+        return new GestureSession("title-bar-drag", steps) {
+            @Override
+            Node target(RoundStage stage) {
+                return stage.getTitleBar().lookup(".title-bar-drag-area");
+            }
+
+            @Override
+            double[] pressPoint(RoundStage stage, Node target) {
+                Bounds bounds = target.localToScene(target.getLayoutBounds());
+                return new double[] {bounds.getCenterX(), bounds.getCenterY()};
+            }
+
+            @Override
+            double[] offset(double phase) {
+                double angle = 2 * Math.PI * phase;
+                return new double[] {120 * Math.sin(angle), 80 * (1 - Math.cos(angle))};
+            }
+        };
+    }
+
+    /**
+     * Resizes the window from one edge outwards and back, one drag event per pulse.
+     *
+     * @param edge The edge or corner
+     * @param steps The number of pulses
+     * @return The session
+     */
+    static InteractionSession edgeResize(ResizeEdge edge, int steps) {
+        String name = "resize-" + edge.name().toLowerCase(Locale.ROOT).replace('_', '-');
+        return new GestureSession(name, steps) {
+            @Override
+            Node target(RoundStage stage) {
+                return stage.getRoot();
+            }
+
+            @Override
+            double[] pressPoint(RoundStage stage, Node target) {
+                double width = stage.getScene().getWidth();
+                double height = stage.getScene().getHeight();
+                double x = edge.isWest() ? 1 : edge.isEast() ? width - 2 : width / 2;
+                double y = edge.isNorth() ? 1 : edge.isSouth() ? height - 2 : height / 2;
+                return new double[] {x, y};
+            }
+
+            @Override
+            double[] offset(double phase) {
+                double distance = 150 * Math.sin(Math.PI * phase);
+                double dx = edge.isEast() ? distance : edge.isWest() ? -distance : 0;
+                double dy = edge.isSouth() ? distance : edge.isNorth() ? -distance : 0;
+                return new double[] {dx, dy};
+            }
+        };
+    }
+
+    /**
+     * Toggles the maximized state of the window at a fixed interval.
+     *
+     * @param cycles The number of maximize and restore cycles
+     * @param interval The number of pulses between two toggles
+     * @return The session
+     */
+    static InteractionSession maximizeRestore(int cycles, int interval) {
+        return new InteractionSession("maximize-restore", cycles * 2 * interval) {
+            @Override
+            int getInteractionCount() {
+                return cycles * 2;
+            }
+
+            @Override
+            void step(RoundStage stage, int step) {
+                if (step % interval == 0) {
+                    stage.setMaximized(!stage.isMaximized());
+                }
+            }
+        };
+    }
+
+    /**
+     * Navigates to another page of the window's content router on every pulse.
+     *
+     * @param steps The number of pulses
+     * @param pageCount The number of registered pages, named "page-0" and up
+     * @return The session
+     */
+    static InteractionSession pageSwitching(int steps, int pageCount) {
+        return new InteractionSession("page-switching", steps) {
+            @Override
+            void step(RoundStage stage, int step) {
+                stage.getContentRouter().navigate("page-" + (step % pageCount));
+            }
+        };
+    }
+
+    /**
+     * A press, a drag event per pulse and a release on the last pulse.
+     */
+    private abstract static class GestureSession extends InteractionSession {
+        private Node target;
+        private double pressX;
+        private double pressY;
+        private double screenX;
+        private double screenY;
+
+        GestureSession(String name, int steps) {
+            super(name, steps);
+        }
+
+        abstract Node target(RoundStage stage);
+
+        abstract double[] pressPoint(RoundStage stage, Node target);
+
+        abstract double[] offset(double phase);
+
+        @Override
+        void begin(RoundStage stage) {
+            target = target(stage);
+            double[] point = pressPoint(stage, target);
+            pressX = point[0];
+            pressY = point[1];
+            screenX = stage.getX() + pressX;
+            screenY = stage.getY() + pressY;
+        }
+
+        @Override
+        void step(RoundStage stage, int step) {
+            if (step == 0) {
+                SyntheticMouse.fire(MouseEvent.MOUSE_PRESSED, target, pressX, pressY, screenX, screenY, true);
+            } else if (step == getSteps() - 1) {
+                SyntheticMouse.fire(MouseEvent.MOUSE_RELEASED, target, pressX, pressY, screenX, screenY, false);
+            } else {
+                double[] delta = offset((double) step / (getSteps() - 1));
+                SyntheticMouse.fire(MouseEvent.MOUSE_DRAGGED, target, pressX + delta[0], pressY + delta[1],
+                        screenX + delta[0], screenY + delta[1], true);
+            }
+        }
+    }
+}
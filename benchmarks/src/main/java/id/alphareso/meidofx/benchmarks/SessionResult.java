@@ -0,0 +1,45 @@
+package id.alphareso.meidofx.benchmarks;
+
+import id.alphareso.meidofx.base.diagnostics.FrameTimeStats;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Measurements of one played back {@link InteractionSession}.
+ *
+ * @param name The session name
+ * @param interactions The number of user interactions in the session
+ * @param frames Frame times of the session
+ * @param pulses CSS and layout times of the session
+ * @param layoutPasses The number of pulses that ran a layout pass
+ * @param allocatedBytes Bytes allocated on the FX thread during the session
+ */
+record SessionResult(String name, int interactions, FrameTimeStats frames, FrameTimeStats pulses,
+                     long layoutPasses, long allocatedBytes) {
+
+    /**
+     * Gets the bytes allocated on the FX thread per interaction.
+     *
+     * @return The allocation per interaction
+     */
+    double allocationPerInteraction() {
+        return interactions > 0 ? (double) allocatedBytes / interactions : 0;
+    }
+
+    /**
+     * Gets the metrics compared against the baseline, keyed by metric name.
+     *
+     * @return The metrics
+     */
+    Map<String, Double> metrics() {
+        Map<String, Double> metrics = new LinkedHashMap<>();
+        metrics.put("frame.p95", frames.p95());
+        metrics.put("frame.p99", frames.p99());
+        metrics.put("pulse.p95", pulses.p95());
+        metrics.put("pulse.p99", pulses.p99());
+        metrics.put("alloc.per-interaction", allocationPerInteraction());
+        metrics.put("layout-passes", (double) layoutPasses);
+        return metrics;
+    }
+}
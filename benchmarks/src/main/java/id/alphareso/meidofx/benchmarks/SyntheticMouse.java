@@ -0,0 +1,51 @@
+package id.alphareso.meidofx.benchmarks;
+
+import javafx.event.Event;
+import javafx.event.EventType;
+import javafx.scene.Node;
+import javafx.scene.input.MouseButton;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.input.PickResult;
+
+/**
+ * Creates and dispatches primary button mouse events as the glass platform would deliver them.
+ */
+final class SyntheticMouse {
+    private SyntheticMouse() {}
+
+    /**
+     * Creates a mouse event picked on the given node.
+     *
+     * @param type The event type
+     * @param target The picked node
+     * @param sceneX The x position in the scene
+     * @param sceneY The y position in the scene
+     * @param screenX The x position on the screen
+     * @param screenY The y position on the screen
+     * @param primaryDown Whether the primary button is held down
+     * @return The event
+     */
+    static MouseEvent event(EventType<MouseEvent> type, Node target, double sceneX, double sceneY,
+                            double screenX, double screenY, boolean primaryDown) {
+        return new MouseEvent(null, target, type, sceneX, sceneY, screenX, screenY,
+                MouseButton.PRIMARY, 1, false, false, false, false,
+                primaryDown, false, false, false, false, false,
+                new PickResult(target, sceneX, sceneY));
+    }
+
+    /**
+     * Creates a mouse event and dispatches it to the given node through its scene.
+     *
+     * @param type The event type
+     * @param target The picked node
+     * @param sceneX The x position in the scene
+     * @param sceneY The y position in the scene
+     * @param screenX The x position on the screen
+     * @param screenY The y position on the screen
+     * @param primaryDown Whether the primary button is held down
+     */
+    static void fire(EventType<MouseEvent> type, Node target, double sceneX, double sceneY,
+                     double screenX, double screenY, boolean primaryDown) {
+        Event.fireEvent(target, event(type, target, sceneX, sceneY, screenX, screenY, primaryDown));
+    }
+}
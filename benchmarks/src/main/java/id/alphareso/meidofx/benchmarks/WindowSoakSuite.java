@@ -0,0 +1,173 @@
+package id.alphareso.meidofx.benchmarks;
+
+import id.alphareso.meidofx.base.enums.TitleBarStyle;
+import id.alphareso.meidofx.base.stages.ContentRouter;
+import id.alphareso.meidofx.base.stages.RoundStage;
+import id.alphareso.meidofx.base.stages.WindowManager;
+import id.alphareso.meidofx.base.titles.TitleBar;
+import javafx.application.Platform;
+import javafx.geometry.Insets;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.layout.VBox;
+import javafx.util.Duration;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Headless soak test of the window lifecycle.
+ * <p>
+ * Opens and disposes thousands of {@link RoundStage} windows with the default chrome, in
+ * batches so the windows are shown for at least one pulse. Afterwards the
+ * {@link WindowManager} must have no registered windows left, every disposed window must be
+ * reclaimed by the garbage collector, and the heap in use after a full collection may not
+ * have grown by more than the allowed amount since the warm-up. The process exits with status
+ * 1 when a check fails, which fails the Maven build of the {@code window-soak} profile.
+ * <p>
+ * Usage: {@code WindowSoakSuite [--windows=2000] [--max-growth-mb=8]}
+ */
+public final class WindowSoakSuite {
+    private static final int WARMUP_WINDOWS = 200;
+    private static final int BATCH_SIZE = 25;
+    private static final int GC_ATTEMPTS = 10;
+    private static final long GC_PAUSE_MILLIS = 100;
+
+    private WindowSoakSuite() {}
+
+    /**
+     * Runs the soak test.
+     *
+     * @param args Options
+     * @throws Exception if the test cannot run
+     */
+    public static void main(String[] args) throws Exception {
+        int windows = 2000;
+        double maxGrowthMb = 8;
+        for (String arg : args) {
+            if (arg.startsWith("--windows=")) {
+                windows = Integer.parseInt(arg.substring("--windows=".length()));
+            } else if (arg.startsWith("--max-growth-mb=")) {
+                maxGrowthMb = Double.parseDouble(arg.substring("--max-growth-mb=".length()));
+            } else {
+                System.err.println("Usage: WindowSoakSuite [--windows=2000] [--max-growth-mb=8]");
+                System.exit(2);
+            }
+        }
+
+        FxPlatform.start();
+        // Pemanasan: kelas, stylesheet dan cache terisi sebelum heap diukur
+        cycle(WARMUP_WINDOWS);
+        collect();
+        long heapBefore = usedHeap();
+
+        long start = System.nanoTime();
+        cycle(windows);
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        int unreclaimed = collect();
+        long heapAfter = usedHeap();
+
+        WindowManager manager = WindowManager.getInstance();
+        int registered = FxPlatform.call(manager::getWindowCount);
+        List<String> leaks = FxPlatform.call(() -> manager.findLeaks(Duration.ZERO));
+        double growthMb = (heapAfter - heapBefore) / (1024.0 * 1024.0);
+
+        System.out.println(String.format(Locale.ROOT,
+                "%d windows in %.1f s, registered %d, unreclaimed %d, heap %.1f MB -> %.1f MB (%+.1f MB)",
+                windows, seconds, registered, unreclaimed,
+                heapBefore / (1024.0 * 1024.0), heapAfter / (1024.0 * 1024.0), growthMb));
+
+        List<String> failures = new ArrayList<>();
+        if (registered != 0) {
+            failures.add(registered + " window(s) still registered after dispose");
+        }
+        if (unreclaimed != 0) {
+            failures.add(unreclaimed + " disposed window(s) not reclaimed");
+            leaks.forEach(leak -> failures.add("leak " + leak));
+        }
+        if (growthMb > maxGrowthMb) {
+            failures.add(String.format(Locale.ROOT, "heap grew by %.1f MB, allowed %.1f MB", growthMb, maxGrowthMb));
+        }
+        for (String failure : failures) {
+            System.out.println("FAILED " + failure);
+        }
+
+        Platform.exit();
+        System.exit(failures.isEmpty() ? 0 : 1);
+    }
+
+    private static void cycle(int count) {
+        for (int done = 0; done < count; done += BATCH_SIZE) {
+            int batch = Math.min(BATCH_SIZE, count - done);
+            List<RoundStage> stages = FxPlatform.call(() -> {
+                List<RoundStage> opened = new ArrayList<>(batch);
+                for (int i = 0; i < batch; i++) {
+                    opened.add(createWindow());
+                }
+                return opened;
+            });
+            // Jendela ditutup pada giliran berikutnya, setelah sempat tampil
+            FxPlatform.run(() -> stages.forEach(RoundStage::dispose));
+        }
+    }
+
+    private static RoundStage createWindow() {
+        RoundStage stage = new RoundStage(400, 300, 20);
+        stage.setTitle("Window soak");
+        stage.setTitleBar(new TitleBar(stage, TitleBarStyle.ALL));
+        stage.getResizeHandler().enableBorderResize(stage.getRoot());
+
+        VBox navigation = new VBox(10);
+        navigation.setPadding(new Insets(10));
+        ContentRouter router = stage.getContentRouter();
+        for (int i = 0; i < 3; i++) {
+            String key = "page-" + i;
+            router.register(key, () -> createPage(key));
+            Button button = new Button("Page " + i);
+            button.setOnAction(event -> router.navigate(key));
+            navigation.getChildren().add(button);
+        }
+        stage.addNavigationContent(navigation);
+        router.navigate("page-0");
+        stage.show();
+        return stage;
+    }
+
+    private static VBox createPage(String name) {
+        VBox page = new VBox(10);
+        page.setPadding(new Insets(20));
+        for (int i = 0; i < 10; i++) {
+            page.getChildren().add(new Label("Row " + i + " of " + name));
+        }
+        return page;
+    }
+
+    /**
+     * Runs the garbage collector until every disposed window is reclaimed or the attempts run
+     * out.
+     *
+     * @return The number of disposed windows that were not reclaimed
+     * @throws InterruptedException if interrupted while waiting for the collector
+     */
+    private static int collect() throws InterruptedException {
+        WindowManager manager = WindowManager.getInstance();
+        int unreclaimed = FxPlatform.call(manager::getUnreclaimedCount);
+        for (int i = 0; i < GC_ATTEMPTS; i++) {
+            System.gc();
+            Thread.sleep(GC_PAUSE_MILLIS);
+            unreclaimed = FxPlatform.call(manager::getUnreclaimedCount);
+            if (unreclaimed == 0 && i > 0) {
+                break;
+            }
+        }
+        return unreclaimed;
+    }
+
+    private static long usedHeap() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
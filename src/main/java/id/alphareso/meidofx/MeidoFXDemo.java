@@ -1,23 +1,53 @@
 package id.alphareso.meidofx;
 
+import id.alphareso.meidofx.base.diagnostics.FxThreadWatchdog;
+import id.alphareso.meidofx.base.diagnostics.StartupTimeline;
+import id.alphareso.meidofx.base.diagnostics.WarmupService;
+import id.alphareso.meidofx.base.dialogs.DialogPool;
+import id.alphareso.meidofx.base.dialogs.PooledDialog;
 import id.alphareso.meidofx.base.enums.TitleBarStyle;
+import id.alphareso.meidofx.base.stages.ContentRouter;
 import id.alphareso.meidofx.base.stages.RoundStage;
+import id.alphareso.meidofx.base.themes.Theme;
+import id.alphareso.meidofx.base.themes.ThemeEngine;
 import id.alphareso.meidofx.base.titles.TitleBar;
 import id.alphareso.meidofx.ui.pages.HelpView;
-import id.alphareso.meidofx.util.FileResource;
+import id.alphareso.meidofx.util.ImageCache;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.image.Image;
+import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
 
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
 public class MeidoFXDemo extends Application {
+    private static final Logger LOGGER = Logger.getLogger(MeidoFXDemo.class.getName());
 
     public static RoundStage stage;
 
+    private final DialogPool dialogPool = new DialogPool();
+
+    @Override
+    public void init() {
+        // Kelas, font, stylesheet dan ikon disiapkan paralel sebelum jendela pertama dibuat
+        WarmupService warmup = new WarmupService();
+        warmup.addImage("/images/icon.png");
+        warmup.start();
+
+        // Log handler yang memblokir FX thread lebih dari 250 ms
+        FxThreadWatchdog.getInstance().start();
+
+        StartupTimeline.getInstance().firstPaintFuture().thenAccept(time ->
+                LOGGER.info(StartupTimeline.getInstance().format()));
+    }
+
     @Override
     public void start(Stage primaryStage) {
         stage = new RoundStage(800, 600, 20);
@@ -25,10 +55,9 @@ public class MeidoFXDemo extends Application {
 
         TitleBar titleBar = new TitleBar(stage, TitleBarStyle.ALL);
         //titleBar.setBackgroundCss("-fx-background-color: #3498db;");
-        titleBar.getTitleLabel().setStyle("-fx-text-fill: white; -fx-font-weight: bold;");
 
         // Show icon in title bar
-        Image appIcon = new Image(FileResource.load("/images/icon.png"));
+        Image appIcon = ImageCache.get("/images/icon.png");
         stage.getIcons().add(appIcon);
         titleBar.setIcon(appIcon);
         stage.setTitleBar(titleBar);
@@ -37,92 +66,94 @@ public class MeidoFXDemo extends Application {
         VBox navigationMenu = new VBox();
         navigationMenu.setPadding(new Insets(10));
         navigationMenu.setSpacing(10);
-        navigationMenu.setStyle("-fx-background-color: #f0f0f0;");
+        navigationMenu.getStyleClass().add("navigation-menu");
 
         // Tombol navigasi dengan aksi untuk mengganti konten utama
         Button dashboardButton = new Button("Dashboard");
-        dashboardButton.setOnAction(event -> setContent("Dashboard Content"));
+        dashboardButton.setOnAction(event -> stage.getContentRouter().navigate("dashboard"));
 
         Button settingsButton = new Button("Settings");
-        settingsButton.setOnAction(event -> setContent("Settings Content"));
+        settingsButton.setOnAction(event -> stage.getContentRouter().navigate("settings"));
 
         Button helpButton = new Button("Help");
-        helpButton.setOnAction(event -> {
-            RoundStage dialog = new RoundStage(400, 300, 20);
-            dialog.setTitle("Help");
-
-            TitleBar dialogTitleBar = new TitleBar(dialog, TitleBarStyle.NO_LEFT);
-            dialogTitleBar.setBackgroundCss("-fx-background-color: #e74c3c;");
-            dialogTitleBar.getTitleLabel().setStyle("-fx-text-fill: white; -fx-font-weight: bold;");
-            dialog.setTitleBar(dialogTitleBar);
-
-            StackPane dialogContent = new StackPane();
-            dialogContent.setPadding(new Insets(20));
-
-            Label dialogLabel = new Label("This is a dialog window created with RoundStage.");
-            dialogLabel.setWrapText(true);
-
-            dialogContent.getChildren().add(dialogLabel);
-            dialog.setContent(dialogContent);
+        helpButton.setOnAction(event -> showDialog("Help", TitleBarStyle.NO_LEFT));
 
-            dialog.initOwner(stage);
-            dialog.show();
+        // Ganti tema terang/gelap untuk semua jendela sekaligus
+        Button themeButton = new Button("Toggle Theme");
+        themeButton.setOnAction(event -> {
+            ThemeEngine themes = ThemeEngine.getInstance();
+            themes.setTheme(themes.getTheme() == Theme.DARK ? Theme.LIGHT : Theme.DARK);
         });
+        ThemeEngine.getInstance().lastSwitchProperty().addListener((obs, oldReport, report) ->
+                LOGGER.log(Level.INFO, "Theme {0} applied to {1} window(s) in {2} ms",
+                        new Object[] {report.theme().getName(), report.sceneCount(), report.totalTime().toMillis()}));
 
         // Menambahkan semua tombol ke dalam menu navigasi
-        navigationMenu.getChildren().addAll(dashboardButton, settingsButton, helpButton);
+        navigationMenu.getChildren().addAll(dashboardButton, settingsButton, helpButton, themeButton);
 
         // Menambahkan menu navigasi ke navigationArea di RoundStage
         stage.addNavigationContent(navigationMenu);
 
+        // Halaman konten dibuat sekali lalu disimpan oleh router
+        ContentRouter router = stage.getContentRouter();
+        router.register("welcome", () -> createContent("Welcome to MeidoFX Demo!"));
+        router.register("dashboard", () -> createContent("Dashboard Content"));
+        router.register("settings", () -> createContent("Settings Content"));
+
         // Menambahkan konten awal ke area konten utama
-        setContent("Welcome to MeidoFX Demo!");
+        router.navigate("welcome");
 
         // Menampilkan stage
         stage.show();
+
+        // Siapkan dialog lebih awal setelah frame pertama
+        Platform.runLater(() -> {
+            dialogPool.prewarm(400, 300, 20, TitleBarStyle.NO_LEFT, 1);
+            dialogPool.prewarm(400, 300, 20, TitleBarStyle.ALL, 1);
+        });
     }
 
-    private void setContent(String contentText) {
+    private Region createContent(String contentText) {
         StackPane contentStack = new StackPane();
         contentStack.setPadding(new Insets(20));
 
         VBox content = new VBox(10);
         content.setPadding(new Insets(20));
         content.getStyleClass().add("content-panel");
-        content.setStyle("-fx-background-color: white; -fx-background-radius: 10;");
 
         Label title = new Label(contentText);
-        title.setStyle("-fx-font-size: 24px; -fx-font-weight: bold;");
+        title.getStyleClass().add("content-title");
 
         Label description = new Label("This is a demonstration of the MeidoFX custom window management system. It features a round stage with a title bar, sidebar, and content area.");
         description.setWrapText(true);
 
         Button testButton = new Button("Test Button");
-        testButton.setOnAction(event -> {
-            RoundStage dialog = new RoundStage(400, 300, 20);
-            dialog.setTitle("Test Dialog Content");
+        testButton.setOnAction(event -> showDialog("Test Dialog Content", TitleBarStyle.ALL));
+
+        content.getChildren().addAll(title, description, testButton);
+        contentStack.getChildren().add(content);
+        return contentStack;
+    }
 
-            TitleBar dialogTitleBar = new TitleBar(dialog, TitleBarStyle.ALL);
-            dialogTitleBar.setBackgroundCss("-fx-background-color: #e74c3c;");
-            dialogTitleBar.getTitleLabel().setStyle("-fx-text-fill: white; -fx-font-weight: bold;");
-            dialog.setTitleBar(dialogTitleBar);
+    private void showDialog(String title, TitleBarStyle style) {
+        // Dialog diambil dari pool, kembali ke pool otomatis saat ditutup
+        PooledDialog pooled = dialogPool.acquire(400, 300, 20, style, stage);
+        RoundStage dialog = pooled.getStage();
+        dialog.setTitle(title);
 
-            StackPane dialogContent = new StackPane();
-            dialogContent.setPadding(new Insets(20));
+        TitleBar dialogTitleBar = pooled.getTitleBar();
+        dialogTitleBar.getStyleClass().add("dialog-title-bar");
 
-            Label dialogLabel = new Label("This is a dialog window created with RoundStage.");
-            dialogLabel.setWrapText(true);
+        StackPane dialogContent = new StackPane();
+        dialogContent.setPadding(new Insets(20));
 
-            dialogContent.getChildren().add(dialogLabel);
-            dialog.setContent(dialogContent);
+        Label dialogLabel = new Label("This is a dialog window created with RoundStage.");
+        dialogLabel.setWrapText(true);
 
-            dialog.initOwner(stage);
-            dialog.show();
-        });
+        dialogContent.getChildren().add(dialogLabel);
+        dialog.setContent(dialogContent);
 
-        content.getChildren().addAll(title, description, testButton);
-        contentStack.getChildren().add(content);
-        stage.setContent(contentStack);
+        dialog.show();
     }
 
     public static void main(String[] args) {
@@ -1,14 +1,23 @@
 package id.alphareso.meidofx.base.controls;
 
+import id.alphareso.meidofx.base.diagnostics.LayoutProfiler;
+import id.alphareso.meidofx.base.enums.ControlGlyphStyle;
+import id.alphareso.meidofx.util.GlyphRegistry;
+import id.alphareso.meidofx.util.ImageLoader;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.Button;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
 import javafx.stage.Stage;
+import org.kordamp.ikonli.Ikon;
+import org.kordamp.ikonli.feather.Feather;
 
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Provides customizable window control buttons (minimize, maximize, close)
@@ -22,27 +31,47 @@ public class WindowControlButtons extends HBox {
     private static final double ICON_HEIGHT = 16;
     private static final double DEFAULT_SPACING = 5;
     private static final double DEFAULT_PADDING = 5;
+    private static final double GLYPH_SIZE = 10;
 
     private final Button minimizeButton;
     private final Button maximizeButton;
     private final Button closeButton;
     private final Stage stage;
+    private final ControlGlyphStyle glyphStyle;
 
     /**
-     * Creates window control buttons attached to the specified stage.
+     * Creates window control buttons attached to the specified stage, using raster icons.
      *
      * @param stage The stage these buttons will control
      */
     public WindowControlButtons(Stage stage) {
+        this(stage, ControlGlyphStyle.RASTER);
+    }
+
+    /**
+     * Creates window control buttons attached to the specified stage.
+     *
+     * @param stage The stage these buttons will control
+     * @param glyphStyle Whether the buttons use raster icons or shared vector glyphs
+     */
+    public WindowControlButtons(Stage stage, ControlGlyphStyle glyphStyle) {
         this.stage = stage;
+        this.glyphStyle = Objects.requireNonNull(glyphStyle, "Glyph style cannot be null");
+        this.getStyleClass().add("window-control-buttons");
         this.setSpacing(DEFAULT_SPACING);
         this.setPadding(new Insets(DEFAULT_PADDING));
         this.setAlignment(Pos.CENTER_RIGHT);
 
         // Initialize buttons
-        minimizeButton = createButton(MINIMIZE_ICON_PATH, ICON_WIDTH, ICON_HEIGHT);
-        maximizeButton = createButton(MAXIMIZE_ICON_PATH, ICON_WIDTH, ICON_HEIGHT);
-        closeButton = createButton(CLOSE_ICON_PATH, ICON_WIDTH, ICON_HEIGHT);
+        if (glyphStyle == ControlGlyphStyle.VECTOR) {
+            minimizeButton = createGlyphButton(Feather.MINUS);
+            maximizeButton = createGlyphButton(Feather.SQUARE);
+            closeButton = createGlyphButton(Feather.X);
+        } else {
+            minimizeButton = createButton(MINIMIZE_ICON_PATH, ICON_WIDTH, ICON_HEIGHT);
+            maximizeButton = createButton(MAXIMIZE_ICON_PATH, ICON_WIDTH, ICON_HEIGHT);
+            closeButton = createButton(CLOSE_ICON_PATH, ICON_WIDTH, ICON_HEIGHT);
+        }
 
         // Set button actions
         setupButtonActions();
@@ -51,6 +80,16 @@ public class WindowControlButtons extends HBox {
         this.getChildren().addAll(minimizeButton, maximizeButton, closeButton);
     }
 
+    /**
+     * Decodes the control button icons in the background so that the first window does not
+     * have to wait for them.
+     *
+     * @return A future completed when the icons are loaded
+     */
+    public static CompletableFuture<Void> preloadIcons() {
+        return ImageLoader.preload(List.of(MINIMIZE_ICON_PATH, MAXIMIZE_ICON_PATH, CLOSE_ICON_PATH), ICON_WIDTH, ICON_HEIGHT);
+    }
+
     /**
      * Creates a control button with the specified image.
      *
@@ -61,17 +100,19 @@ public class WindowControlButtons extends HBox {
      */
     private Button createButton(String imagePath, double width, double height) {
         Button button = new Button();
-        try {
-            Image image = new Image(Objects.requireNonNull(getClass().getResourceAsStream("/" + imagePath)));
-            ImageView imageView = new ImageView(image);
-            imageView.setFitWidth(width);
-            imageView.setFitHeight(height);
-            button.setGraphic(imageView);
-        } catch (Exception e) {
-            System.err.println("Could not load image: " + imagePath);
-            button.setText(imagePath.contains("close") ? "X" :
-                    imagePath.contains("minimize") ? "_" : "□");
-        }
+        ImageView imageView = new ImageView();
+        imageView.setFitWidth(width);
+        imageView.setFitHeight(height);
+        button.setGraphic(imageView);
+        // Decode di background, placeholder seukuran ikon tampil sampai gambar siap
+        ImageLoader.loadInto(imageView, imagePath, width, height).thenAccept(image -> {
+            if (image == null) {
+                System.err.println("Could not load image: " + imagePath);
+                button.setGraphic(null);
+                button.setText(imagePath.contains("close") ? "X" :
+                        imagePath.contains("minimize") ? "_" : "□");
+            }
+        });
 
         button.getStyleClass().add("window-control-button");
         button.setFocusTraversable(false);
@@ -79,6 +120,34 @@ public class WindowControlButtons extends HBox {
         return button;
     }
 
+    /**
+     * Creates a control button drawing a shared vector glyph.
+     *
+     * @param ikon The glyph
+     * @return A styled button with the glyph as graphic
+     */
+    private Button createGlyphButton(Ikon ikon) {
+        Button button = new Button();
+        Region glyph = GlyphRegistry.createGlyph(GlyphRegistry.ikon(ikon), GLYPH_SIZE, Color.WHITE);
+        glyph.getStyleClass().add("window-control-glyph");
+        button.setGraphic(glyph);
+        button.setMinSize(ICON_WIDTH, ICON_HEIGHT);
+
+        button.getStyleClass().add("window-control-button");
+        button.setFocusTraversable(false);
+
+        return button;
+    }
+
+    /**
+     * Gets the icon style used by the buttons.
+     *
+     * @return The glyph style
+     */
+    public ControlGlyphStyle getGlyphStyle() {
+        return glyphStyle;
+    }
+
     /**
      * Sets up actions for each window control button.
      */
@@ -98,6 +167,15 @@ public class WindowControlButtons extends HBox {
         closeButton.setOnAction(event -> stage.close());
     }
 
+    /**
+     * Removes the button actions, so the buttons no longer reference the stage.
+     */
+    public void dispose() {
+        minimizeButton.setOnAction(null);
+        maximizeButton.setOnAction(null);
+        closeButton.setOnAction(null);
+    }
+
     /**
      * Sets the visibility of minimize button.
      *
@@ -154,4 +232,47 @@ public class WindowControlButtons extends HBox {
     public Button getCloseButton() {
         return closeButton;
     }
+
+    @Override
+    protected void layoutChildren() {
+        LayoutProfiler profiler = LayoutProfiler.getActive();
+        if (profiler == null) {
+            super.layoutChildren();
+            return;
+        }
+        long start = profiler.enter();
+        try {
+            super.layoutChildren();
+        } finally {
+            profiler.layoutFinished(this, start);
+        }
+    }
+
+    @Override
+    protected double computePrefWidth(double height) {
+        LayoutProfiler profiler = LayoutProfiler.getActive();
+        if (profiler == null) {
+            return super.computePrefWidth(height);
+        }
+        long start = profiler.enter();
+        try {
+            return super.computePrefWidth(height);
+        } finally {
+            profiler.prefSizeFinished(this, start);
+        }
+    }
+
+    @Override
+    protected double computePrefHeight(double width) {
+        LayoutProfiler profiler = LayoutProfiler.getActive();
+        if (profiler == null) {
+            return super.computePrefHeight(width);
+        }
+        long start = profiler.enter();
+        try {
+            return super.computePrefHeight(width);
+        } finally {
+            profiler.prefSizeFinished(this, start);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package id.alphareso.meidofx.base.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for replacing the content of a window, either directly or through its
+ * content router.
+ */
+@Name("meidofx.ContentSwap")
+@Label("Content Swap")
+@Category({"MeidoFX", "Window"})
+@Description("Replacing the content shown in a window")
+@StackTrace(false)
+public class ContentSwapEvent extends Event {
+    @Label("Window Title")
+    public String windowTitle;
+
+    @Label("Content Class")
+    public String contentClass;
+
+    @Label("View Key")
+    @Description("The router view key, or null for content set directly")
+    public String viewKey;
+
+    @Label("View Built")
+    @Description("Whether the view had to be built instead of being taken from the router cache")
+    public boolean viewBuilt;
+}
@@ -0,0 +1,29 @@
+package id.alphareso.meidofx.base.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for a window drag, from pressing on a drag region until the release.
+ */
+@Name("meidofx.DragSession")
+@Label("Window Drag Session")
+@Category({"MeidoFX", "Interaction"})
+@Description("Moving a window by one of its drag regions")
+@StackTrace(false)
+public class DragSessionEvent extends Event {
+    @Label("Window Title")
+    public String windowTitle;
+
+    @Label("Drag Events")
+    @Description("Mouse drag events handled during the session")
+    public long dragEvents;
+
+    @Label("Applied Moves")
+    @Description("Window moves applied after coalescing, including one still pending at the release")
+    public long appliedMoves;
+}
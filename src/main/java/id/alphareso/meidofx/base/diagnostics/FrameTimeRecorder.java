@@ -0,0 +1,204 @@
+package id.alphareso.meidofx.base.diagnostics;
+
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+
+import java.util.Objects;
+
+/**
+ * Records the frame time of every pulse of a scene, and how much of it went into CSS and
+ * layout.
+ * <p>
+ * The frame time is the interval between the starts of two consecutive pulses, which includes
+ * animation, CSS, layout and waiting for the previous frame to be rendered. The pulse time is
+ * the part spent in CSS and layout of the scene, measured between the pre- and post-layout
+ * pulse listeners. Samples are kept in a fixed ring buffer, so recording does not allocate per
+ * pulse; once the buffer is full the oldest samples are overwritten.
+ * <p>
+ * The recorder only observes: it never applies CSS or layout itself, so the measured pulses
+ * are the ones the application runs. JavaFX does not report whether a pulse ran a CSS or
+ * layout pass. A layout pass is counted when the scene root needed layout at the start of the
+ * pulse; CSS is not counted separately, as that cannot be observed without forcing it.
+ * <p>
+ * All methods must be called on the FX thread.
+ */
+public class FrameTimeRecorder {
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    private final Scene scene;
+    private final long[] frameNanos;
+    private final long[] pulseNanos;
+    private final Runnable preLayoutListener = this::pulseStarted;
+    private final Runnable postLayoutListener = this::pulseFinished;
+
+    private boolean recording;
+    private int next;
+    private int size;
+    private long lastPulseStart;
+    private long pulseStart;
+    private long pulseCount;
+    private long layoutPassCount;
+
+    /**
+     * Creates a recorder with the default capacity.
+     *
+     * @param scene The recorded scene
+     */
+    public FrameTimeRecorder(Scene scene) {
+        this(scene, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a recorder.
+     *
+     * @param scene The recorded scene
+     * @param capacity The maximum number of samples kept
+     */
+    public FrameTimeRecorder(Scene scene, int capacity) {
+        this.scene = Objects.requireNonNull(scene, "Scene cannot be null");
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        frameNanos = new long[capacity];
+        pulseNanos = new long[capacity];
+    }
+
+    /**
+     * Starts recording. The first pulse after starting has no frame time of its own.
+     */
+    public void start() {
+        if (recording) {
+            return;
+        }
+        recording = true;
+        lastPulseStart = 0;
+        scene.addPreLayoutPulseListener(preLayoutListener);
+        scene.addPostLayoutPulseListener(postLayoutListener);
+    }
+
+    /**
+     * Stops recording. Recorded samples are kept until {@link #reset()}.
+     */
+    public void stop() {
+        if (!recording) {
+            return;
+        }
+        recording = false;
+        scene.removePreLayoutPulseListener(preLayoutListener);
+        scene.removePostLayoutPulseListener(postLayoutListener);
+    }
+
+    /**
+     * Discards all samples and counters.
+     */
+    public void reset() {
+        next = 0;
+        size = 0;
+        lastPulseStart = 0;
+        pulseCount = 0;
+        layoutPassCount = 0;
+    }
+
+    /**
+     * Checks whether the recorder is recording.
+     *
+     * @return true while recording
+     */
+    public boolean isRecording() {
+        return recording;
+    }
+
+    /**
+     * Gets the number of frame samples kept.
+     *
+     * @return The sample count
+     */
+    public int getSampleCount() {
+        return size;
+    }
+
+    /**
+     * Gets the number of pulses recorded.
+     *
+     * @return The pulse count
+     */
+    public long getPulseCount() {
+        return pulseCount;
+    }
+
+    /**
+     * Gets the number of pulses that ran a layout pass.
+     *
+     * @return The layout pass count
+     */
+    public long getLayoutPassCount() {
+        return layoutPassCount;
+    }
+
+    /**
+     * Gets the recorded frame times, oldest first.
+     *
+     * @return The frame times in milliseconds
+     */
+    public double[] getFrameTimes() {
+        return toMillis(frameNanos);
+    }
+
+    /**
+     * Gets the recorded CSS and layout time of each frame, oldest first.
+     *
+     * @return The pulse times in milliseconds
+     */
+    public double[] getPulseTimes() {
+        return toMillis(pulseNanos);
+    }
+
+    /**
+     * Gets the distribution of the recorded frame times.
+     *
+     * @return The frame time statistics
+     */
+    public FrameTimeStats getFrameStats() {
+        return FrameTimeStats.of(getFrameTimes());
+    }
+
+    /**
+     * Gets the distribution of the recorded CSS and layout times.
+     *
+     * @return The pulse time statistics
+     */
+    public FrameTimeStats getPulseStats() {
+        return FrameTimeStats.of(getPulseTimes());
+    }
+
+    private void pulseStarted() {
+        long now = System.nanoTime();
+        pulseStart = now;
+        pulseCount++;
+
+        Parent root = scene.getRoot();
+        if (root != null && root.isNeedsLayout()) {
+            layoutPassCount++;
+        }
+    }
+
+    private void pulseFinished() {
+        long now = System.nanoTime();
+        if (lastPulseStart != 0) {
+            frameNanos[next] = pulseStart - lastPulseStart;
+            pulseNanos[next] = now - pulseStart;
+            next = (next + 1) % frameNanos.length;
+            size = Math.min(size + 1, frameNanos.length);
+        }
+        lastPulseStart = pulseStart;
+    }
+
+    private double[] toMillis(long[] values) {
+        double[] millis = new double[size];
+        int first = size < values.length ? 0 : next;
+        for (int i = 0; i < size; i++) {
+            millis[i] = values[(first + i) % values.length] / 1_000_000.0;
+        }
+        return millis;
+    }
+}
@@ -0,0 +1,47 @@
+package id.alphareso.meidofx.base.diagnostics;
+
+import java.util.Arrays;
+
+/**
+ * Distribution of a series of frame or pulse times, in milliseconds.
+ *
+ * @param count The number of samples
+ * @param mean The mean time
+ * @param p50 The median time
+ * @param p95 The 95th percentile
+ * @param p99 The 99th percentile
+ * @param max The longest time
+ */
+public record FrameTimeStats(int count, double mean, double p50, double p95, double p99, double max) {
+    /**
+     * Statistics of an empty series.
+     */
+    public static final FrameTimeStats EMPTY = new FrameTimeStats(0, 0, 0, 0, 0, 0);
+
+    /**
+     * Computes the statistics of a series of times.
+     *
+     * @param millis The times in milliseconds; the array is not modified
+     * @return The statistics
+     */
+    public static FrameTimeStats of(double[] millis) {
+        if (millis.length == 0) {
+            return EMPTY;
+        }
+        double[] sorted = millis.clone();
+        Arrays.sort(sorted);
+        double sum = 0;
+        for (double value : sorted) {
+            sum += value;
+        }
+        return new FrameTimeStats(sorted.length, sum / sorted.length,
+                percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+                sorted[sorted.length - 1]);
+    }
+
+    private static double percentile(double[] sorted, double fraction) {
+        // Nearest-rank: the smallest value with at least the given fraction of samples at or below it
+        int rank = (int) Math.ceil(fraction * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+}
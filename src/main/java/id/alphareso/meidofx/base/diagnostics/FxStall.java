@@ -0,0 +1,31 @@
+package id.alphareso.meidofx.base.diagnostics;
+
+import javafx.util.Duration;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A period in which the FX application thread did not process its event queue, recorded by
+ * the {@link FxThreadWatchdog}.
+ *
+ * @param start When the watchdog started waiting for the FX thread
+ * @param duration How long the FX thread was unresponsive
+ * @param stack The FX thread stack when the stall passed the threshold, innermost frame first
+ */
+public record FxStall(Instant start, Duration duration, List<StackTraceElement> stack) {
+    /**
+     * Formats the stall with its stack, one frame per line.
+     *
+     * @return The formatted stall
+     */
+    public String format() {
+        StringBuilder builder = new StringBuilder(String.format(Locale.ROOT,
+                "FX thread stalled for %.0f ms at %s", duration.toMillis(), start));
+        for (StackTraceElement frame : stack) {
+            builder.append(System.lineSeparator()).append("    at ").append(frame);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,281 @@
+package id.alphareso.meidofx.base.diagnostics;
+
+import javafx.application.Platform;
+import javafx.util.Duration;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Detects stalls of the FX application thread, such as slow work in a button action or in
+ * content handed to {@code setContent}, which freeze every window of the application.
+ * <p>
+ * A monitor thread posts a heartbeat to the FX thread and checks how long it waits for it.
+ * When the wait passes the {@link #setStallThreshold(Duration) stall threshold}, the monitor
+ * captures the stack of the FX thread, which shows the code that is blocking it, and logs a
+ * warning. When the heartbeat finally runs the stall is complete: it is logged with its
+ * duration, kept in a ring buffer of recent stalls and passed to the stall listeners.
+ * <p>
+ * The heartbeat is a runnable in the FX event queue rather than an animation, so an idle
+ * application is not forced to run a pulse every frame; the queue is processed between pulses
+ * and is blocked by exactly the same work. A stall is measured from the moment the heartbeat
+ * was posted, so it may have started up to one check interval earlier.
+ * <p>
+ * Methods may be called on any thread.
+ */
+public final class FxThreadWatchdog {
+    private static final Logger LOGGER = Logger.getLogger(FxThreadWatchdog.class.getName());
+
+    private static final FxThreadWatchdog INSTANCE = new FxThreadWatchdog();
+
+    /**
+     * Default wait after which the FX thread is considered stalled.
+     */
+    public static final Duration DEFAULT_STALL_THRESHOLD = Duration.millis(250);
+
+    /**
+     * Default number of recent stalls kept.
+     */
+    public static final int DEFAULT_CAPACITY = 32;
+
+    private static final long MIN_CHECK_INTERVAL_MILLIS = 10;
+
+    private final Deque<FxStall> stalls = new ArrayDeque<>();
+    private final List<Consumer<FxStall>> listeners = new CopyOnWriteArrayList<>();
+    private final Runnable heartbeat = this::heartbeat;
+
+    private Duration stallThreshold = DEFAULT_STALL_THRESHOLD;
+    private int capacity = DEFAULT_CAPACITY;
+    private ScheduledExecutorService monitor;
+    private ScheduledFuture<?> checks;
+    private volatile Thread fxThread;
+
+    // Status heartbeat yang sedang menunggu, dijaga oleh lock this
+    private long postedNanos;
+    private Instant postedAt;
+    private StackTraceElement[] stallStack;
+
+    private FxThreadWatchdog() {
+    }
+
+    /**
+     * Gets the watchdog of the FX application thread.
+     *
+     * @return The watchdog
+     */
+    public static FxThreadWatchdog getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Starts watching the FX thread. The JavaFX toolkit must be running.
+     */
+    public synchronized void start() {
+        if (checks != null) {
+            return;
+        }
+        if (monitor == null) {
+            monitor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "meidofx-fx-watchdog");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        postedNanos = 0;
+        stallStack = null;
+        if (Platform.isFxApplicationThread()) {
+            fxThread = Thread.currentThread();
+        }
+        long interval = checkIntervalMillis();
+        checks = monitor.scheduleWithFixedDelay(this::check, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops watching the FX thread. Recorded stalls are kept.
+     */
+    public synchronized void stop() {
+        if (checks != null) {
+            checks.cancel(false);
+            checks = null;
+        }
+    }
+
+    /**
+     * Checks whether the watchdog is watching the FX thread.
+     *
+     * @return true if the watchdog is running
+     */
+    public synchronized boolean isRunning() {
+        return checks != null;
+    }
+
+    /**
+     * Sets the wait after which the FX thread is considered stalled. A running watchdog picks
+     * up the new threshold right away.
+     *
+     * @param threshold The stall threshold
+     */
+    public synchronized void setStallThreshold(Duration threshold) {
+        Objects.requireNonNull(threshold, "Threshold cannot be null");
+        if (threshold.lessThanOrEqualTo(Duration.ZERO)) {
+            throw new IllegalArgumentException("Threshold must be positive: " + threshold);
+        }
+        this.stallThreshold = threshold;
+        if (checks != null) {
+            stop();
+            start();
+        }
+    }
+
+    /**
+     * Gets the wait after which the FX thread is considered stalled.
+     *
+     * @return The stall threshold
+     */
+    public synchronized Duration getStallThreshold() {
+        return stallThreshold;
+    }
+
+    /**
+     * Sets how many recent stalls are kept. The oldest stalls are dropped first.
+     *
+     * @param capacity The number of stalls kept
+     */
+    public synchronized void setCapacity(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        while (stalls.size() > capacity) {
+            stalls.removeFirst();
+        }
+    }
+
+    /**
+     * Gets how many recent stalls are kept.
+     *
+     * @return The number of stalls kept
+     */
+    public synchronized int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Gets the recent stalls.
+     *
+     * @return The stalls, oldest first
+     */
+    public synchronized List<FxStall> getStalls() {
+        return new ArrayList<>(stalls);
+    }
+
+    /**
+     * Discards the recorded stalls.
+     */
+    public synchronized void clearStalls() {
+        stalls.clear();
+    }
+
+    /**
+     * Adds a listener notified of every completed stall. Listeners are called on the FX
+     * thread, right after it recovered.
+     *
+     * @param listener The listener
+     */
+    public void addStallListener(Consumer<FxStall> listener) {
+        listeners.add(Objects.requireNonNull(listener, "Listener cannot be null"));
+    }
+
+    /**
+     * Removes a stall listener.
+     *
+     * @param listener The listener
+     */
+    public void removeStallListener(Consumer<FxStall> listener) {
+        listeners.remove(listener);
+    }
+
+    private long checkIntervalMillis() {
+        return Math.max(MIN_CHECK_INTERVAL_MILLIS, (long) stallThreshold.toMillis() / 4);
+    }
+
+    private void check() {
+        long now = System.nanoTime();
+        long posted;
+        synchronized (this) {
+            if (postedNanos == 0) {
+                postedNanos = now;
+                postedAt = Instant.now();
+                posted = 0;
+            } else if (stallStack == null && now - postedNanos >= (long) (stallThreshold.toMillis() * 1_000_000L)) {
+                posted = postedNanos;
+            } else {
+                return;
+            }
+        }
+        if (posted == 0) {
+            try {
+                Platform.runLater(heartbeat);
+            } catch (IllegalStateException e) {
+                // Toolkit belum jalan atau sudah berhenti
+                LOGGER.log(Level.FINE, "FX toolkit is not running, watchdog stopped");
+                synchronized (this) {
+                    postedNanos = 0;
+                }
+                stop();
+            }
+            return;
+        }
+
+        Thread thread = fxThread;
+        StackTraceElement[] stack = thread != null ? thread.getStackTrace() : new StackTraceElement[0];
+        synchronized (this) {
+            if (postedNanos != posted) {
+                // Heartbeat sudah berjalan selagi stack diambil
+                return;
+            }
+            stallStack = stack;
+        }
+        FxStall ongoing = new FxStall(postedAt, Duration.millis((now - posted) / 1_000_000.0), List.of(stack));
+        LOGGER.log(Level.WARNING, ongoing::format);
+    }
+
+    private void heartbeat() {
+        long now = System.nanoTime();
+        fxThread = Thread.currentThread();
+        FxStall stall;
+        synchronized (this) {
+            StackTraceElement[] stack = stallStack;
+            stall = stack != null
+                    ? new FxStall(postedAt, Duration.millis((now - postedNanos) / 1_000_000.0), List.of(stack))
+                    : null;
+            postedNanos = 0;
+            stallStack = null;
+            if (stall != null) {
+                stalls.addLast(stall);
+                if (stalls.size() > capacity) {
+                    stalls.removeFirst();
+                }
+            }
+        }
+        if (stall == null) {
+            return;
+        }
+        LOGGER.log(Level.WARNING, "FX thread recovered after {0} ms", Math.round(stall.duration().toMillis()));
+        for (Consumer<FxStall> listener : listeners) {
+            listener.accept(stall);
+        }
+    }
+}
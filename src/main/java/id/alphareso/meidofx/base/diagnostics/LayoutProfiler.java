@@ -0,0 +1,480 @@
+package id.alphareso.meidofx.base.diagnostics;
+
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Profiles the layout work of a scene per chrome region and per node class, to find which
+ * parts of the window chrome make pulses expensive.
+ * <p>
+ * A chrome region is a parent registered with {@link #addRegion(String, Parent)}, or a parent
+ * carrying one of the region style classes, by default those of the MeidoFX chrome
+ * ({@link #DEFAULT_REGION_STYLE_CLASSES}). Regions nest: a title bar inside the window layout
+ * is reported as "window-layout/title-bar". Everything outside a region belongs to the
+ * "{@value #SCENE_REGION}" region.
+ * <p>
+ * The chrome classes of MeidoFX ({@code TitleBar}, {@code WindowDragHandler},
+ * {@code WindowControlButtons} and the layout panes of {@code RoundStage}) call the profiler
+ * from their {@code layoutChildren} and {@code computePrefWidth/Height}. Those calls are
+ * counted and timed; the time of a hooked call excludes hooked calls nested in it, but
+ * includes the work of nodes without hooks that it triggers, such as the preferred size of a
+ * label. The hooks read a static reference to the {@link #getActive() active} profiler, which
+ * is null when no profiler is recording, so they cost nothing in production.
+ * <p>
+ * Nodes without hooks are reported by count only: at the start of a pulse the profiler walks
+ * the scene graph and counts every parent that needs layout, per region and per node class. The
+ * time of the whole CSS and layout pass of each pulse is measured between the pre- and
+ * post-layout pulse listeners. CSS work cannot be attributed per node, as JavaFX applies CSS
+ * to the whole scene without a hook per node; it is only part of the pulse time.
+ * <p>
+ * The profiler never applies CSS or layout itself. Only one profiler can record at a time.
+ * Profiling walks the whole scene graph every pulse and should not be left running in
+ * production. All methods must be called on the FX thread.
+ */
+public class LayoutProfiler {
+    /**
+     * Name of the region holding all nodes outside the chrome regions.
+     */
+    public static final String SCENE_REGION = "scene";
+
+    /**
+     * Style classes of the MeidoFX chrome that mark a region.
+     */
+    public static final List<String> DEFAULT_REGION_STYLE_CLASSES = List.of(
+            "window-layout",
+            "title-bar",
+            "title-bar-content",
+            "title-bar-drag-area",
+            "window-control-buttons",
+            "navigation-area",
+            "content-area",
+            "sidebar-navigation");
+
+    private static final int DEFAULT_REPORT_LIMIT = 10;
+
+    private static final Comparator<LayoutStats> HOTTEST_FIRST = Comparator
+            .comparingDouble(LayoutStats::totalMillis).reversed()
+            .thenComparing(Comparator.comparingLong(LayoutStats::layoutPasses).reversed());
+
+    // Null saat tidak ada profiler yang merekam, sehingga hook hanya memeriksa null
+    private static LayoutProfiler active;
+
+    private final Scene scene;
+    private final Set<String> regionStyleClasses = new LinkedHashSet<>(DEFAULT_REGION_STYLE_CLASSES);
+    private final Map<Node, String> namedRegions = new IdentityHashMap<>();
+    private final Map<String, Counter> regionCounters = new LinkedHashMap<>();
+    private final Map<Class<?>, Counter> classCounters = new LinkedHashMap<>();
+    private final Map<Node, Counter> hookedRegions = new IdentityHashMap<>();
+    private final Runnable preLayoutListener = this::pulseStarted;
+    private final Runnable postLayoutListener = this::pulseFinished;
+
+    // Waktu hook bersarang, agar waktu induk tidak menghitung anak yang juga di-hook
+    private long[] nestedNanos = new long[16];
+    private int depth;
+
+    private boolean recording;
+    private long pulseCount;
+    private long pulseStart;
+    private long pulseNanos;
+
+    /**
+     * Creates a profiler for a scene.
+     *
+     * @param scene The profiled scene
+     */
+    public LayoutProfiler(Scene scene) {
+        this.scene = Objects.requireNonNull(scene, "Scene cannot be null");
+    }
+
+    /**
+     * Gets the profiler that is recording, for the layout hooks of the chrome classes.
+     *
+     * @return The recording profiler, or null if none is recording
+     */
+    public static LayoutProfiler getActive() {
+        return active;
+    }
+
+    /**
+     * Registers a parent as a named chrome region.
+     *
+     * @param name The region name
+     * @param region The region root
+     */
+    public void addRegion(String name, Parent region) {
+        Objects.requireNonNull(name, "Name cannot be null");
+        Objects.requireNonNull(region, "Region cannot be null");
+        namedRegions.put(region, name);
+    }
+
+    /**
+     * Marks every parent with the given style class as a chrome region named after the class.
+     *
+     * @param styleClass The style class
+     */
+    public void addRegionStyleClass(String styleClass) {
+        regionStyleClasses.add(Objects.requireNonNull(styleClass, "Style class cannot be null"));
+    }
+
+    /**
+     * Starts profiling.
+     *
+     * @throws IllegalStateException if another profiler is recording
+     */
+    public void start() {
+        if (recording) {
+            return;
+        }
+        if (active != null) {
+            throw new IllegalStateException("Another layout profiler is recording");
+        }
+        active = this;
+        recording = true;
+        depth = 0;
+        scene.addPreLayoutPulseListener(preLayoutListener);
+        scene.addPostLayoutPulseListener(postLayoutListener);
+    }
+
+    /**
+     * Stops profiling. Recorded figures are kept until {@link #reset()}.
+     */
+    public void stop() {
+        if (!recording) {
+            return;
+        }
+        recording = false;
+        if (active == this) {
+            active = null;
+        }
+        pulseStart = 0;
+        scene.removePreLayoutPulseListener(preLayoutListener);
+        scene.removePostLayoutPulseListener(postLayoutListener);
+    }
+
+    /**
+     * Discards all recorded figures.
+     */
+    public void reset() {
+        regionCounters.clear();
+        classCounters.clear();
+        hookedRegions.clear();
+        pulseCount = 0;
+        pulseNanos = 0;
+    }
+
+    /**
+     * Checks whether the profiler is recording.
+     *
+     * @return true while recording
+     */
+    public boolean isRecording() {
+        return recording;
+    }
+
+    /**
+     * Gets the number of pulses profiled.
+     *
+     * @return The pulse count
+     */
+    public long getPulseCount() {
+        return pulseCount;
+    }
+
+    /**
+     * Gets the measured time of the CSS and layout passes of all profiled pulses.
+     *
+     * @return The pulse time in milliseconds
+     */
+    public double getPulseMillis() {
+        return pulseNanos / 1_000_000.0;
+    }
+
+    /**
+     * Marks the start of a hooked {@code layoutChildren} or {@code computePrefWidth/Height}
+     * call. Every call must be paired with {@link #layoutFinished(Node, long)} or
+     * {@link #prefSizeFinished(Node, long)}, also when the call fails.
+     *
+     * @return The start time to pass to the matching finish call
+     */
+    public long enter() {
+        if (depth == nestedNanos.length) {
+            nestedNanos = Arrays.copyOf(nestedNanos, depth * 2);
+        }
+        nestedNanos[depth++] = 0;
+        return System.nanoTime();
+    }
+
+    /**
+     * Records a hooked {@code layoutChildren} call.
+     *
+     * @param node The node that laid out its children
+     * @param start The start time returned by {@link #enter()}
+     */
+    public void layoutFinished(Node node, long start) {
+        long self = exit(start);
+        if (self >= 0 && node.getScene() == scene) {
+            Counter region = hookedRegion(node);
+            Counter type = classCounter(node.getClass());
+            region.layoutCalls++;
+            region.layoutNanos += self;
+            type.layoutCalls++;
+            type.layoutNanos += self;
+        }
+    }
+
+    /**
+     * Records a hooked {@code computePrefWidth} or {@code computePrefHeight} call.
+     *
+     * @param node The node that computed its preferred size
+     * @param start The start time returned by {@link #enter()}
+     */
+    public void prefSizeFinished(Node node, long start) {
+        long self = exit(start);
+        if (self >= 0 && node.getScene() == scene) {
+            Counter region = hookedRegion(node);
+            Counter type = classCounter(node.getClass());
+            region.prefSizeCalls++;
+            region.prefSizeNanos += self;
+            type.prefSizeCalls++;
+            type.prefSizeNanos += self;
+        }
+    }
+
+    /**
+     * Gets the work done by each region itself, not counting nested regions.
+     *
+     * @return The region figures, in scene graph order
+     */
+    public List<LayoutStats> getRegionStats() {
+        List<LayoutStats> stats = new ArrayList<>();
+        regionCounters.forEach((path, counter) -> stats.add(counter.toStats(path)));
+        return stats;
+    }
+
+    /**
+     * Gets the work done by each region together with its nested regions.
+     *
+     * @return The subtree figures, most measured time first, then most layout passes
+     */
+    public List<LayoutStats> getSubtreeStats() {
+        List<LayoutStats> stats = new ArrayList<>();
+        for (String path : regionCounters.keySet()) {
+            Counter subtree = new Counter();
+            regionCounters.forEach((other, counter) -> {
+                if (path.equals(SCENE_REGION) || other.equals(path) || other.startsWith(path + "/")) {
+                    subtree.add(counter);
+                }
+            });
+            stats.add(subtree.toStats(path));
+        }
+        stats.sort(HOTTEST_FIRST);
+        return stats;
+    }
+
+    /**
+     * Gets the work done per node class.
+     *
+     * @return The node class figures, most measured time first, then most layout passes
+     */
+    public List<LayoutStats> getClassStats() {
+        List<LayoutStats> stats = new ArrayList<>();
+        classCounters.forEach((type, counter) -> stats.add(counter.toStats(type.getName())));
+        stats.sort(HOTTEST_FIRST);
+        return stats;
+    }
+
+    /**
+     * Formats the profile as a report naming the ten hottest subtrees and node classes.
+     *
+     * @return The report
+     */
+    public String format() {
+        return format(DEFAULT_REPORT_LIMIT);
+    }
+
+    /**
+     * Formats the profile as a report. Figures without hooked calls are shown as counts only.
+     *
+     * @param limit The maximum number of subtrees and node classes listed
+     * @return The report
+     */
+    public String format(int limit) {
+        StringBuilder builder = new StringBuilder();
+        builder.append(String.format(Locale.ROOT, "Layout profile, %d pulses, %.2f ms in CSS and layout%n",
+                pulseCount, getPulseMillis()));
+
+        builder.append(String.format(Locale.ROOT, "%nHottest subtrees (including nested regions)%n"));
+        append(builder, getSubtreeStats(), limit);
+
+        builder.append(String.format(Locale.ROOT, "%nRegions (own work only)%n"));
+        append(builder, getRegionStats(), Integer.MAX_VALUE);
+
+        builder.append(String.format(Locale.ROOT, "%nNode classes%n"));
+        append(builder, getClassStats(), limit);
+        return builder.toString();
+    }
+
+    /**
+     * Writes the {@link #format() report} to a file.
+     *
+     * @param file The report file
+     * @throws IOException if the file cannot be written
+     */
+    public void writeReport(Path file) throws IOException {
+        Files.writeString(file, format());
+    }
+
+    private static void append(StringBuilder builder, List<LayoutStats> list, int limit) {
+        for (LayoutStats stats : list.subList(0, Math.min(limit, list.size()))) {
+            if (stats.isTimed()) {
+                builder.append(String.format(Locale.ROOT,
+                        "  %-56s %9.2f ms  layoutChildren %6d %8.2f ms  prefSize %6d %8.2f ms  dirty %6d  nodes %5d%n",
+                        stats.name(), stats.totalMillis(), stats.layoutCalls(), stats.layoutMillis(),
+                        stats.prefSizeCalls(), stats.prefSizeMillis(), stats.layoutPasses(), stats.nodes()));
+            } else {
+                builder.append(String.format(Locale.ROOT,
+                        "  %-56s %12s  %-49s  dirty %6d  nodes %5d%n",
+                        stats.name(), "count only", "", stats.layoutPasses(), stats.nodes()));
+            }
+        }
+    }
+
+    private long exit(long start) {
+        long total = System.nanoTime() - start;
+        if (depth == 0) {
+            // Dipanggil tanpa enter(), misalnya setelah reset di tengah layout
+            return -1;
+        }
+        long self = total - nestedNanos[--depth];
+        if (depth > 0) {
+            nestedNanos[depth - 1] += total;
+        }
+        return self;
+    }
+
+    private void pulseStarted() {
+        Parent root = scene.getRoot();
+        if (root == null) {
+            pulseStart = 0;
+            return;
+        }
+        pulseCount++;
+        hookedRegions.clear();
+        regionCounters.values().forEach(counter -> counter.nodes = 0);
+        classCounters.values().forEach(counter -> counter.nodes = 0);
+        visit(root, SCENE_REGION, counter(SCENE_REGION));
+        // Waktu mulai diambil setelah penelusuran agar penelusuran tidak ikut terukur
+        pulseStart = System.nanoTime();
+    }
+
+    private void pulseFinished() {
+        if (pulseStart != 0) {
+            pulseNanos += System.nanoTime() - pulseStart;
+            pulseStart = 0;
+        }
+    }
+
+    private void visit(Node node, String path, Counter region) {
+        Counter type = classCounter(node.getClass());
+        if (!(node instanceof Parent parent)) {
+            region.nodes++;
+            type.nodes++;
+            return;
+        }
+        if (node != scene.getRoot()) {
+            String name = regionName(parent);
+            if (name != null) {
+                path = path.equals(SCENE_REGION) ? name : path + "/" + name;
+                region = counter(path);
+            }
+        }
+        region.nodes++;
+        type.nodes++;
+        if (parent.isNeedsLayout()) {
+            region.layoutPasses++;
+            type.layoutPasses++;
+        }
+        for (Node child : parent.getChildrenUnmodifiable()) {
+            visit(child, path, region);
+        }
+    }
+
+    private Counter hookedRegion(Node node) {
+        Counter region = hookedRegions.get(node);
+        if (region == null) {
+            String path = null;
+            for (Node current = node; current != null && current != scene.getRoot(); current = current.getParent()) {
+                String name = current instanceof Parent parent ? regionName(parent) : null;
+                if (name != null) {
+                    path = path == null ? name : name + "/" + path;
+                }
+            }
+            region = counter(path != null ? path : SCENE_REGION);
+            hookedRegions.put(node, region);
+        }
+        return region;
+    }
+
+    private String regionName(Parent parent) {
+        String name = namedRegions.get(parent);
+        if (name != null) {
+            return name;
+        }
+        for (String styleClass : parent.getStyleClass()) {
+            if (regionStyleClasses.contains(styleClass)) {
+                return styleClass;
+            }
+        }
+        return null;
+    }
+
+    private Counter counter(String path) {
+        return regionCounters.computeIfAbsent(path, key -> new Counter());
+    }
+
+    private Counter classCounter(Class<?> type) {
+        return classCounters.computeIfAbsent(type, key -> new Counter());
+    }
+
+    /**
+     * Mutable figures of one region or node class.
+     */
+    private static final class Counter {
+        private int nodes;
+        private long layoutPasses;
+        private long layoutCalls;
+        private long layoutNanos;
+        private long prefSizeCalls;
+        private long prefSizeNanos;
+
+        private void add(Counter other) {
+            nodes += other.nodes;
+            layoutPasses += other.layoutPasses;
+            layoutCalls += other.layoutCalls;
+            layoutNanos += other.layoutNanos;
+            prefSizeCalls += other.prefSizeCalls;
+            prefSizeNanos += other.prefSizeNanos;
+        }
+
+        private LayoutStats toStats(String name) {
+            return new LayoutStats(name, nodes, layoutPasses, layoutCalls, layoutNanos / 1_000_000.0,
+                    prefSizeCalls, prefSizeNanos / 1_000_000.0);
+        }
+    }
+}
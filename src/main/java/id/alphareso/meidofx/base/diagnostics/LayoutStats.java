@@ -0,0 +1,36 @@
+package id.alphareso.meidofx.base.diagnostics;
+
+/**
+ * Layout work recorded by a {@link LayoutProfiler} for one chrome region, subtree or node
+ * class. Calls and times only come from nodes with layout hooks; for other nodes only the
+ * node and layout pass counts are known.
+ *
+ * @param name The region path, e.g. "window-layout/title-bar", or the node class name
+ * @param nodes The number of nodes seen in the last profiled pulse
+ * @param layoutPasses The number of times a parent needed layout at the start of a pulse
+ * @param layoutCalls The number of hooked {@code layoutChildren} calls
+ * @param layoutMillis The time spent in hooked {@code layoutChildren} calls, in milliseconds
+ * @param prefSizeCalls The number of hooked {@code computePrefWidth/Height} calls
+ * @param prefSizeMillis The time spent in hooked {@code computePrefWidth/Height} calls, in
+ *                       milliseconds
+ */
+public record LayoutStats(String name, int nodes, long layoutPasses, long layoutCalls, double layoutMillis,
+                          long prefSizeCalls, double prefSizeMillis) {
+    /**
+     * Gets the time spent in hooked layout and preferred size calls together.
+     *
+     * @return The total time in milliseconds
+     */
+    public double totalMillis() {
+        return layoutMillis + prefSizeMillis;
+    }
+
+    /**
+     * Checks whether any hooked call was measured, so the figures include times.
+     *
+     * @return true if the figures have times, false if they are counts only
+     */
+    public boolean isTimed() {
+        return layoutCalls > 0 || prefSizeCalls > 0;
+    }
+}
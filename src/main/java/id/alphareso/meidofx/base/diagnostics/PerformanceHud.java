@@ -0,0 +1,231 @@
+package id.alphareso.meidofx.base.diagnostics;
+
+import id.alphareso.meidofx.base.stages.BaseStage;
+import id.alphareso.meidofx.util.ImageCache;
+import javafx.animation.AnimationTimer;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyCodeCombination;
+import javafx.scene.input.KeyCombination;
+import javafx.scene.layout.BackgroundImage;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.StackPane;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Overlay in the root of a {@link BaseStage} that shows live performance figures of the
+ * window: frames per second and frame time, the number of nodes, layout passes per second,
+ * the bytes of decoded images shown by the window and the rate of drag and resize events.
+ * <p>
+ * Frame times come from an {@link AnimationTimer}; the other figures are sampled when the
+ * overlay is refreshed, every {@value #UPDATE_INTERVAL_MILLIS} ms. The overlay is created on
+ * first use, and while it is hidden it has no node in the scene, no timer and no pulse
+ * listener, so a hidden HUD costs nothing.
+ * <p>
+ * Toggle it with {@link BaseStage#setPerformanceHudVisible(boolean)}, the
+ * {@link #DEFAULT_HOTKEY hotkey} or the title bar context menu. All methods must be called on
+ * the FX thread.
+ */
+public final class PerformanceHud {
+    /**
+     * Default key combination that toggles the HUD: Shortcut+Shift+F12 (Ctrl on Windows and
+     * Linux, Cmd on macOS).
+     */
+    public static final KeyCombination DEFAULT_HOTKEY = new KeyCodeCombination(KeyCode.F12,
+            KeyCombination.SHORTCUT_DOWN, KeyCombination.SHIFT_DOWN);
+
+    /**
+     * Interval between two refreshes of the displayed figures.
+     */
+    public static final long UPDATE_INTERVAL_MILLIS = 500;
+
+    private static final long UPDATE_INTERVAL_NANOS = UPDATE_INTERVAL_MILLIS * 1_000_000L;
+
+    private final BaseStage stage;
+    private final Label label = new Label();
+    private final Runnable pulseListener = this::pulseStarted;
+    private final AnimationTimer timer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            frame(now);
+        }
+    };
+
+    private Scene scene;
+    private boolean showing;
+    private long lastFrame;
+    private long windowStart;
+    private int frames;
+    private long frameNanos;
+    private long maxFrameNanos;
+    private long layoutPasses;
+    private long lastInteractionEvents;
+
+    /**
+     * Creates a hidden HUD for a stage.
+     *
+     * @param stage The stage
+     */
+    public PerformanceHud(BaseStage stage) {
+        this.stage = stage;
+        label.getStyleClass().add("performance-hud");
+        label.setMouseTransparent(true);
+        label.setFocusTraversable(false);
+        label.setMinSize(Region.USE_PREF_SIZE, Region.USE_PREF_SIZE);
+        label.setMaxSize(Region.USE_PREF_SIZE, Region.USE_PREF_SIZE);
+        StackPane.setAlignment(label, Pos.TOP_LEFT);
+        StackPane.setMargin(label, new Insets(8));
+    }
+
+    /**
+     * Shows the HUD on top of the stage content and starts measuring.
+     */
+    public void show() {
+        if (showing) {
+            return;
+        }
+        showing = true;
+        scene = stage.getScene();
+        scene.addPreLayoutPulseListener(pulseListener);
+        lastFrame = 0;
+        windowStart = 0;
+        lastInteractionEvents = stage.getInteractionController().getInteractionEventCount();
+        label.setText("Measuring...");
+        stage.getRoot().getChildren().add(label);
+        timer.start();
+    }
+
+    /**
+     * Hides the HUD and stops measuring.
+     */
+    public void hide() {
+        if (!showing) {
+            return;
+        }
+        showing = false;
+        timer.stop();
+        scene.removePreLayoutPulseListener(pulseListener);
+        scene = null;
+        stage.getRoot().getChildren().remove(label);
+    }
+
+    /**
+     * Shows the HUD if it is hidden, hides it otherwise.
+     */
+    public void toggle() {
+        if (showing) {
+            hide();
+        } else {
+            show();
+        }
+    }
+
+    /**
+     * Checks whether the HUD is showing.
+     *
+     * @return true if the HUD is showing
+     */
+    public boolean isShowing() {
+        return showing;
+    }
+
+    /**
+     * Gets the overlay node. It is only part of the stage root while the HUD is showing.
+     *
+     * @return The overlay node
+     */
+    public Node getNode() {
+        return label;
+    }
+
+    private void pulseStarted() {
+        if (scene.getRoot() != null && scene.getRoot().isNeedsLayout()) {
+            layoutPasses++;
+        }
+    }
+
+    private void frame(long now) {
+        if (lastFrame != 0) {
+            long frameTime = now - lastFrame;
+            frames++;
+            frameNanos += frameTime;
+            maxFrameNanos = Math.max(maxFrameNanos, frameTime);
+        }
+        lastFrame = now;
+        if (windowStart == 0) {
+            windowStart = now;
+            return;
+        }
+        if (now - windowStart >= UPDATE_INTERVAL_NANOS) {
+            refresh(now - windowStart);
+            windowStart = now;
+            frames = 0;
+            frameNanos = 0;
+            maxFrameNanos = 0;
+            layoutPasses = 0;
+        }
+    }
+
+    private void refresh(long elapsedNanos) {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        double fps = frames / seconds;
+        double meanFrame = frames > 0 ? frameNanos / 1_000_000.0 / frames : 0;
+
+        long interactionEvents = stage.getInteractionController().getInteractionEventCount();
+        double eventRate = (interactionEvents - lastInteractionEvents) / seconds;
+        lastInteractionEvents = interactionEvents;
+
+        // Hitung node dan gambar sekaligus dalam satu penelusuran scene graph
+        Set<Image> images = Collections.newSetFromMap(new IdentityHashMap<>());
+        int nodes = scene.getRoot() != null ? visit(scene.getRoot(), images) : 0;
+        long imageBytes = 0;
+        for (Image image : images) {
+            imageBytes += ImageCache.byteSize(image);
+        }
+
+        label.setText(String.format(Locale.ROOT,
+                "%5.1f fps  %5.2f ms (max %5.2f)%nnodes %d  layouts %4.1f/s%nimages %s  drag/resize %5.1f/s",
+                fps, meanFrame, maxFrameNanos / 1_000_000.0,
+                nodes, layoutPasses / seconds,
+                formatBytes(imageBytes), eventRate));
+    }
+
+    private int visit(Node node, Set<Image> images) {
+        int count = 1;
+        if (node instanceof ImageView view && view.getImage() != null) {
+            images.add(view.getImage());
+        }
+        if (node instanceof Region region && region.getBackground() != null) {
+            for (BackgroundImage backgroundImage : region.getBackground().getImages()) {
+                images.add(backgroundImage.getImage());
+            }
+        }
+        if (node instanceof Parent parent) {
+            for (Node child : parent.getChildrenUnmodifiable()) {
+                count += visit(child, images);
+            }
+        }
+        return count;
+    }
+
+    private static String formatBytes(long bytes) {
+        if (bytes < 1024) {
+            return bytes + " B";
+        }
+        if (bytes < 1024 * 1024) {
+            return String.format(Locale.ROOT, "%.1f KB", bytes / 1024.0);
+        }
+        return String.format(Locale.ROOT, "%.1f MB", bytes / (1024.0 * 1024.0));
+    }
+}
@@ -0,0 +1,32 @@
+package id.alphareso.meidofx.base.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for a rendering quality change made by a
+ * {@code RenderQualityGovernor}.
+ */
+@Name("meidofx.RenderQuality")
+@Label("Render Quality Change")
+@Category({"MeidoFX", "Window"})
+@Description("The rendering quality of a window was stepped down or up")
+@StackTrace(false)
+public class RenderQualityEvent extends Event {
+    @Label("Window Title")
+    public String windowTitle;
+
+    @Label("Previous Quality")
+    public String previousQuality;
+
+    @Label("Quality")
+    public String quality;
+
+    @Label("Mean Frame Time")
+    @Description("Mean frame time of the window that triggered the change, in milliseconds")
+    public double meanFrameMillis;
+}
@@ -0,0 +1,37 @@
+package id.alphareso.meidofx.base.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for a window resize, from pressing on a border or grip until the
+ * release.
+ */
+@Name("meidofx.ResizeSession")
+@Label("Window Resize Session")
+@Category({"MeidoFX", "Interaction"})
+@Description("Resizing a window from a border or a resize grip")
+@StackTrace(false)
+public class ResizeSessionEvent extends Event {
+    @Label("Window Title")
+    public String windowTitle;
+
+    @Label("Edge")
+    public String edge;
+
+    @Label("Source")
+    @Description("Whether the resize started on the window border or a resize grip")
+    public String source;
+
+    @Label("Drag Events")
+    @Description("Mouse drag events handled during the session")
+    public long dragEvents;
+
+    @Label("Applied Resizes")
+    @Description("Window resizes applied after coalescing, including one still pending at the release")
+    public long appliedResizes;
+}
@@ -0,0 +1,13 @@
+package id.alphareso.meidofx.base.diagnostics;
+
+import javafx.util.Duration;
+
+/**
+ * One phase recorded by the {@link StartupTimeline}.
+ *
+ * @param name The phase name
+ * @param sinceLaunch Time from the start of the process until the phase was reached
+ * @param thread The name of the thread that recorded the phase
+ */
+public record StartupMark(String name, Duration sinceLaunch, String thread) {
+}
@@ -0,0 +1,233 @@
+package id.alphareso.meidofx.base.diagnostics;
+
+import id.alphareso.meidofx.base.enums.StartupPhase;
+import javafx.application.Platform;
+import javafx.event.EventHandler;
+import javafx.scene.Scene;
+import javafx.stage.Stage;
+import javafx.stage.WindowEvent;
+import javafx.util.Duration;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Records how long the application takes to reach the phases of its startup, measured from
+ * the start of the process.
+ * <p>
+ * The first stage, its first pulse and its first frame are recorded automatically: every
+ * {@code BaseStage} reports itself through {@link #stageCreated(Stage)}. The warm-up service
+ * records its own phases, and applications can add their own with {@link #mark(String)}. Only
+ * the first occurrence of a phase is kept.
+ * <p>
+ * The launch time comes from the operating system and is only as precise as the process start
+ * time it reports. When it is not available the timeline is measured from the moment this
+ * class was loaded, which {@link #isLaunchTimeKnown()} reports.
+ */
+public final class StartupTimeline {
+    private static final Logger LOGGER = Logger.getLogger(StartupTimeline.class.getName());
+
+    private static final StartupTimeline INSTANCE = new StartupTimeline();
+
+    private final long launchNanos;
+    private final boolean launchTimeKnown;
+    private final Map<String, StartupMark> marks = new LinkedHashMap<>();
+    private final CompletableFuture<Duration> firstPaint = new CompletableFuture<>();
+
+    private final EventHandler<WindowEvent> shownHandler = new EventHandler<>() {
+        @Override
+        public void handle(WindowEvent event) {
+            Stage stage = (Stage) event.getSource();
+            stage.removeEventHandler(WindowEvent.WINDOW_SHOWN, this);
+            onFirstShown(stage);
+        }
+    };
+
+    private boolean stageObserved;
+    private boolean shownObserved;
+
+    private StartupTimeline() {
+        long nowNanos = System.nanoTime();
+        Instant now = Instant.now();
+        Optional<Instant> start = ProcessHandle.current().info().startInstant();
+
+        launchTimeKnown = start.isPresent() && !start.get().isAfter(now);
+        launchNanos = launchTimeKnown
+                ? nowNanos - java.time.Duration.between(start.get(), now).toNanos()
+                : nowNanos;
+        marks.put(StartupPhase.LAUNCH.name(), new StartupMark(StartupPhase.LAUNCH.name(), Duration.ZERO, "process"));
+    }
+
+    /**
+     * Gets the startup timeline of the process.
+     *
+     * @return The startup timeline
+     */
+    public static StartupTimeline getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Records that a well-known phase has been reached. May be called on any thread.
+     *
+     * @param phase The phase
+     * @return true if this is the first time the phase was reached
+     */
+    public boolean mark(StartupPhase phase) {
+        return mark(phase.name());
+    }
+
+    /**
+     * Records that a phase has been reached, e.g. "database connected". May be called on any
+     * thread.
+     *
+     * @param name The phase name
+     * @return true if this is the first time the phase was reached
+     */
+    public synchronized boolean mark(String name) {
+        Objects.requireNonNull(name, "Name cannot be null");
+        if (marks.containsKey(name)) {
+            return false;
+        }
+        Duration sinceLaunch = Duration.millis((System.nanoTime() - launchNanos) / 1_000_000.0);
+        marks.put(name, new StartupMark(name, sinceLaunch, Thread.currentThread().getName()));
+        return true;
+    }
+
+    /**
+     * Gets a recorded well-known phase.
+     *
+     * @param phase The phase
+     * @return The mark, or null if the phase has not been reached
+     */
+    public StartupMark getMark(StartupPhase phase) {
+        return getMark(phase.name());
+    }
+
+    /**
+     * Gets a recorded phase.
+     *
+     * @param name The phase name
+     * @return The mark, or null if the phase has not been reached
+     */
+    public synchronized StartupMark getMark(String name) {
+        return marks.get(name);
+    }
+
+    /**
+     * Gets all recorded phases.
+     *
+     * @return The marks, ordered by time since launch
+     */
+    public synchronized List<StartupMark> getMarks() {
+        List<StartupMark> sorted = new ArrayList<>(marks.values());
+        sorted.sort(Comparator.comparingDouble(mark -> mark.sinceLaunch().toMillis()));
+        return sorted;
+    }
+
+    /**
+     * Gets the time from launch until the first frame of the first window was rendered.
+     *
+     * @return The time to first paint, or null if no window has been painted yet
+     */
+    public Duration getTimeToFirstPaint() {
+        StartupMark mark = getMark(StartupPhase.FIRST_PAINT);
+        return mark != null ? mark.sinceLaunch() : null;
+    }
+
+    /**
+     * Gets a future that completes with the time to first paint once the first window has been
+     * painted.
+     *
+     * @return The first paint future
+     */
+    public CompletableFuture<Duration> firstPaintFuture() {
+        return firstPaint;
+    }
+
+    /**
+     * Checks whether the timeline is measured from the actual start of the process.
+     *
+     * @return true if the process start time is known
+     */
+    public boolean isLaunchTimeKnown() {
+        return launchTimeKnown;
+    }
+
+    /**
+     * Formats the recorded phases as a table, one phase per line.
+     *
+     * @return The formatted timeline
+     */
+    public String format() {
+        StringBuilder builder = new StringBuilder("Startup timeline");
+        if (!launchTimeKnown) {
+            builder.append(" (process start unknown, measured from class load)");
+        }
+        for (StartupMark mark : getMarks()) {
+            builder.append(String.format("%n  %-28s %8.1f ms  [%s]",
+                    mark.name(), mark.sinceLaunch().toMillis(), mark.thread()));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Observes a newly constructed stage to record the first stage phases. Called by every
+     * {@code BaseStage} at the end of its construction, after the chrome is built; must be
+     * called on the FX thread.
+     *
+     * @param stage The stage
+     */
+    public void stageCreated(Stage stage) {
+        if (shownObserved) {
+            return;
+        }
+        if (!stageObserved) {
+            stageObserved = true;
+            mark(StartupPhase.FIRST_STAGE_CONSTRUCTED);
+        }
+        // Stage pertama yang tampil belum tentu stage pertama yang dibuat
+        stage.addEventHandler(WindowEvent.WINDOW_SHOWN, shownHandler);
+    }
+
+    private void onFirstShown(Stage stage) {
+        if (shownObserved) {
+            return;
+        }
+        shownObserved = true;
+        mark(StartupPhase.FIRST_STAGE_SHOWN);
+
+        Scene scene = stage.getScene();
+        if (scene == null) {
+            return;
+        }
+        Runnable[] listeners = new Runnable[2];
+        // Pulse pertama menjalankan CSS dan layout; frame-nya sudah diserahkan ke renderer
+        // saat pulse berikutnya dimulai
+        listeners[0] = () -> {
+            scene.removePostLayoutPulseListener(listeners[0]);
+            mark(StartupPhase.FIRST_PULSE);
+            scene.addPreLayoutPulseListener(listeners[1]);
+            Platform.requestNextPulse();
+        };
+        listeners[1] = () -> {
+            scene.removePreLayoutPulseListener(listeners[1]);
+            mark(StartupPhase.FIRST_PAINT);
+            Duration timeToFirstPaint = getTimeToFirstPaint();
+            LOGGER.log(Level.INFO, "Time to first paint: {0} ms", timeToFirstPaint.toMillis());
+            LOGGER.log(Level.FINE, this::format);
+            firstPaint.complete(timeToFirstPaint);
+        };
+        scene.addPostLayoutPulseListener(listeners[0]);
+        Platform.requestNextPulse();
+    }
+}
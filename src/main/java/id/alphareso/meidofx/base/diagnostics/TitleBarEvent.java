@@ -0,0 +1,40 @@
+package id.alphareso.meidofx.base.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for the creation of a {@code TitleBar} and for changes of its style.
+ */
+@Name("meidofx.TitleBar")
+@Label("Title Bar")
+@Category({"MeidoFX", "Window"})
+@Description("Creation or style change of a title bar")
+@StackTrace(false)
+public class TitleBarEvent extends Event {
+    /**
+     * Action of a title bar creation.
+     */
+    public static final String CREATE = "create";
+
+    /**
+     * Action of a title bar style change.
+     */
+    public static final String STYLE_CHANGE = "style-change";
+
+    @Label("Action")
+    public String action;
+
+    @Label("Window Title")
+    public String windowTitle;
+
+    @Label("Previous Style")
+    public String previousStyle;
+
+    @Label("Style")
+    public String style;
+}
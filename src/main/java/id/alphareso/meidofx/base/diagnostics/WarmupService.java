@@ -0,0 +1,269 @@
+package id.alphareso.meidofx.base.diagnostics;
+
+import id.alphareso.meidofx.base.controls.WindowControlButtons;
+import id.alphareso.meidofx.base.enums.StartupPhase;
+import id.alphareso.meidofx.base.themes.ThemeEngine;
+import id.alphareso.meidofx.util.FileResource;
+import id.alphareso.meidofx.util.GlyphRegistry;
+import id.alphareso.meidofx.util.ImageLoader;
+import javafx.application.Platform;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.layout.StackPane;
+import javafx.scene.text.Font;
+import javafx.util.Duration;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Preloads what the first window needs while the application starts, so that showing it does
+ * not pay for class loading, font lookup, CSS parsing and image decoding on the FX thread.
+ * <p>
+ * Classes, fonts and images are warmed in parallel on background threads. Loading a class
+ * also runs its static initializer; the JavaFX control classes install the default user agent
+ * stylesheet that way. Fonts are looked up by family and chrome images are decoded into the
+ * {@code ImageCache}. Stylesheets are applied to an off-screen scene on the FX thread: JavaFX
+ * keeps the parsed stylesheet in its style cache, so the first window reuses it instead of
+ * parsing it again.
+ * <p>
+ * Start the service from {@code Application.init()}, where the JavaFX toolkit is running but
+ * no window has been created yet. Warm-up is best effort: a failing task is logged and never
+ * fails the returned future. The start and end of the warm-up are recorded on the
+ * {@link StartupTimeline}.
+ */
+public class WarmupService {
+    private static final Logger LOGGER = Logger.getLogger(WarmupService.class.getName());
+
+    private static final int POOL_SIZE = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+
+    /**
+     * Classes needed to show a window with the default chrome.
+     */
+    public static final List<String> DEFAULT_CLASSES = List.of(
+            "id.alphareso.meidofx.base.stages.RoundStage",
+            "id.alphareso.meidofx.base.stages.ContentRouter",
+            "id.alphareso.meidofx.base.stages.LiveResizeController",
+            "id.alphareso.meidofx.base.titles.TitleBar",
+            "id.alphareso.meidofx.base.controls.WindowControlButtons",
+            "id.alphareso.meidofx.base.handlers.WindowInteractionController",
+            "id.alphareso.meidofx.base.handlers.WindowGeometryScheduler",
+            "id.alphareso.meidofx.base.handlers.WindowResizeHandler",
+            "id.alphareso.meidofx.base.handlers.WindowDragHandler",
+            "id.alphareso.meidofx.util.PaintCache",
+            "javafx.scene.control.Button",
+            "javafx.scene.control.Label",
+            "javafx.scene.control.skin.ButtonSkin",
+            "javafx.scene.control.skin.LabelSkin",
+            "javafx.scene.image.ImageView",
+            "javafx.scene.layout.BorderPane",
+            "javafx.scene.layout.HBox",
+            "javafx.scene.shape.SVGPath");
+
+    /**
+     * Font families of the base stylesheet.
+     */
+    public static final List<String> DEFAULT_FONTS = List.of("Segoe UI", "Arial");
+
+    private static ExecutorService defaultExecutor;
+
+    private final Executor executor;
+    private final Set<String> classes = new LinkedHashSet<>(DEFAULT_CLASSES);
+    private final Set<String> fonts = new LinkedHashSet<>(DEFAULT_FONTS);
+    private final Set<String> stylesheets = new LinkedHashSet<>(List.of(ThemeEngine.BASE_STYLESHEET));
+    private final Set<String> images = new LinkedHashSet<>();
+    private final Map<String, Duration> taskTimes = new ConcurrentHashMap<>();
+
+    private CompletableFuture<Void> result;
+
+    /**
+     * Creates a warm-up service using a shared pool of background threads.
+     */
+    public WarmupService() {
+        this(defaultExecutor());
+    }
+
+    /**
+     * Creates a warm-up service that runs its tasks on the given executor.
+     *
+     * @param executor The executor for the warm-up tasks
+     */
+    public WarmupService(Executor executor) {
+        this.executor = Objects.requireNonNull(executor, "Executor cannot be null");
+    }
+
+    /**
+     * Adds a class to load and initialize.
+     *
+     * @param className The fully qualified class name
+     */
+    public synchronized void addClass(String className) {
+        classes.add(Objects.requireNonNull(className, "Class name cannot be null"));
+    }
+
+    /**
+     * Adds a font family to look up.
+     *
+     * @param family The font family
+     */
+    public synchronized void addFont(String family) {
+        fonts.add(Objects.requireNonNull(family, "Font family cannot be null"));
+    }
+
+    /**
+     * Adds a stylesheet to load into the JavaFX style cache.
+     *
+     * @param path The stylesheet resource path, e.g. "/styles/ocean.css"
+     */
+    public synchronized void addStylesheet(String path) {
+        stylesheets.add(Objects.requireNonNull(path, "Stylesheet path cannot be null"));
+    }
+
+    /**
+     * Adds an image to decode into the image cache at its natural size.
+     *
+     * @param path The image resource path
+     */
+    public synchronized void addImage(String path) {
+        images.add(Objects.requireNonNull(path, "Image path cannot be null"));
+    }
+
+    /**
+     * Starts the warm-up. Calling this again returns the running or completed warm-up.
+     *
+     * @return A future completed when all warm-up tasks have finished
+     */
+    public synchronized CompletableFuture<Void> start() {
+        if (result != null) {
+            return result;
+        }
+        StartupTimeline.getInstance().mark(StartupPhase.WARMUP_STARTED);
+        long start = System.nanoTime();
+
+        List<CompletableFuture<?>> tasks = new ArrayList<>();
+        List<String> classNames = new ArrayList<>(classes);
+        tasks.add(run("classes", () -> loadClasses(classNames)));
+        for (String family : fonts) {
+            tasks.add(run("font " + family, () -> Font.font(family, Font.getDefault().getSize())));
+        }
+        for (String stylesheet : stylesheets) {
+            tasks.add(timed("stylesheet " + stylesheet, onFxThread(() -> applyStylesheet(stylesheet))));
+        }
+        tasks.add(run("glyphs", () -> GlyphRegistry.get(GlyphRegistry.RESIZE_GRIP)));
+        // Gambar di-decode oleh ImageLoader, yang punya thread pool sendiri
+        tasks.add(timed("control icons", WindowControlButtons.preloadIcons()));
+        if (!images.isEmpty()) {
+            tasks.add(timed("images", ImageLoader.preload(new ArrayList<>(images))));
+        }
+
+        result = CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[0])).whenComplete((ignored, error) -> {
+            StartupTimeline.getInstance().mark(StartupPhase.WARMUP_FINISHED);
+            LOGGER.log(Level.FINE, "Warm-up finished in {0} ms", (System.nanoTime() - start) / 1_000_000L);
+        });
+        return result;
+    }
+
+    /**
+     * Checks whether the warm-up has finished.
+     *
+     * @return true if all warm-up tasks have finished
+     */
+    public synchronized boolean isDone() {
+        return result != null && result.isDone();
+    }
+
+    /**
+     * Gets how long each finished warm-up task took.
+     *
+     * @return The task durations by task name
+     */
+    public Map<String, Duration> getTaskTimes() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(taskTimes));
+    }
+
+    private CompletableFuture<Void> run(String name, Runnable task) {
+        return CompletableFuture.runAsync(() -> {
+            long start = System.nanoTime();
+            try {
+                task.run();
+            } catch (RuntimeException | LinkageError e) {
+                LOGGER.log(Level.WARNING, "Warm-up task failed: " + name, e);
+            }
+            taskTimes.put(name, Duration.millis((System.nanoTime() - start) / 1_000_000.0));
+        }, executor);
+    }
+
+    private CompletableFuture<Void> timed(String name, CompletableFuture<Void> task) {
+        long start = System.nanoTime();
+        return task.handle((ignored, error) -> {
+            if (error != null) {
+                LOGGER.log(Level.WARNING, "Warm-up task failed: " + name, error);
+            }
+            taskTimes.put(name, Duration.millis((System.nanoTime() - start) / 1_000_000.0));
+            return null;
+        });
+    }
+
+    private static void loadClasses(List<String> classNames) {
+        ClassLoader loader = WarmupService.class.getClassLoader();
+        for (String className : classNames) {
+            try {
+                Class.forName(className, true, loader);
+            } catch (ClassNotFoundException e) {
+                LOGGER.log(Level.FINE, "Warm-up class not found: {0}", className);
+            }
+        }
+    }
+
+    private static CompletableFuture<Void> onFxThread(Runnable task) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        Platform.runLater(() -> {
+            try {
+                task.run();
+                future.complete(null);
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    private static void applyStylesheet(String path) {
+        String url = FileResource.load(path);
+        if (url == null) {
+            LOGGER.log(Level.WARNING, "Warm-up stylesheet not found: {0}", path);
+            return;
+        }
+        // Stylesheet diurai oleh StyleManager dan disimpan di cache-nya, dengan URL yang sama
+        // seperti yang dipasang ThemeEngine; scene ini sendiri boleh dibuang
+        Scene scene = new Scene(new StackPane(new Label()));
+        scene.getStylesheets().add(url);
+        scene.getRoot().applyCss();
+    }
+
+    private static synchronized ExecutorService defaultExecutor() {
+        if (defaultExecutor == null) {
+            AtomicInteger count = new AtomicInteger();
+            defaultExecutor = Executors.newFixedThreadPool(POOL_SIZE, runnable -> {
+                Thread thread = new Thread(runnable, "meidofx-warmup-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return defaultExecutor;
+    }
+}
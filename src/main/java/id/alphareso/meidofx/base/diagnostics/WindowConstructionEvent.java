@@ -0,0 +1,44 @@
+package id.alphareso.meidofx.base.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight recorder event for the construction of a {@code BaseStage}, with the time spent in
+ * each phase. The event covers the MeidoFX constructors; work done by application subclasses
+ * after them is not included.
+ */
+@Name("meidofx.WindowConstruction")
+@Label("Window Construction")
+@Category({"MeidoFX", "Window"})
+@Description("Construction of a MeidoFX stage")
+@StackTrace(false)
+public class WindowConstructionEvent extends Event {
+    @Label("Stage Class")
+    public String stageClass;
+
+    @Label("Scene Setup")
+    @Description("Creating the root container and the scene")
+    @Timespan(Timespan.NANOSECONDS)
+    public long sceneSetup;
+
+    @Label("Interaction Setup")
+    @Description("Installing the drag, resize and maximize handling")
+    @Timespan(Timespan.NANOSECONDS)
+    public long interactionSetup;
+
+    @Label("Theme Setup")
+    @Description("Attaching the stylesheets of the current theme")
+    @Timespan(Timespan.NANOSECONDS)
+    public long themeSetup;
+
+    @Label("Chrome Setup")
+    @Description("Creating the chrome regions of a round stage")
+    @Timespan(Timespan.NANOSECONDS)
+    public long chromeSetup;
+}
@@ -0,0 +1,353 @@
+package id.alphareso.meidofx.base.dialogs;
+
+import id.alphareso.meidofx.base.enums.ControlGlyphStyle;
+import id.alphareso.meidofx.base.enums.TitleBarStyle;
+import javafx.animation.Animation;
+import javafx.animation.PauseTransition;
+import javafx.stage.Window;
+import javafx.util.Duration;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Keeps a bounded number of pre-built {@link PooledDialog}s per size, {@link TitleBarStyle} and
+ * {@link ControlGlyphStyle}, so that showing a dialog does not pay for building a new stage and
+ * title bar.
+ * <p>
+ * A window owner can only be set before a stage is shown for the first time. Dialogs that have
+ * been shown keep their owner and are only reused for that owner; fresh dialogs (for example
+ * from {@link #prewarm}) can be handed to any owner. All methods must be called on the
+ * JavaFX Application Thread.
+ */
+public class DialogPool {
+    private static final Logger LOGGER = Logger.getLogger(DialogPool.class.getName());
+
+    public static final int DEFAULT_MAX_IDLE_PER_KEY = 2;
+    public static final Duration DEFAULT_IDLE_TIMEOUT = Duration.minutes(5);
+
+    private record Key(double minWidth, double minHeight, double cornerRadius, TitleBarStyle style,
+                       ControlGlyphStyle glyphStyle) {}
+
+    private final Map<Key, Deque<PooledDialog>> idleDialogs = new HashMap<>();
+    private final Map<PooledDialog, Key> keys = new HashMap<>();
+    private final PauseTransition evictionTimer = new PauseTransition();
+
+    private int maxIdlePerKey;
+    private Duration idleTimeout;
+
+    private long createdCount;
+    private long reuseCount;
+    private long releaseCount;
+    private long evictedCount;
+
+    /**
+     * Creates a dialog pool with default size and idle timeout.
+     */
+    public DialogPool() {
+        this(DEFAULT_MAX_IDLE_PER_KEY, DEFAULT_IDLE_TIMEOUT);
+    }
+
+    /**
+     * Creates a dialog pool.
+     *
+     * @param maxIdlePerKey Maximum number of idle dialogs kept per size and style
+     * @param idleTimeout How long an idle dialog is kept before it is evicted
+     */
+    public DialogPool(int maxIdlePerKey, Duration idleTimeout) {
+        setMaxIdlePerKey(maxIdlePerKey);
+        setIdleTimeout(idleTimeout);
+        evictionTimer.setOnFinished(event -> evictExpired());
+    }
+
+    /**
+     * Gets a dialog of the given size and style with raster control icons, reusing an idle one
+     * when possible.
+     *
+     * @param minWidth The minimum width of the stage
+     * @param minHeight The minimum height of the stage
+     * @param cornerRadius The corner radius in pixels
+     * @param style The title bar style
+     * @param owner The owner window, or null
+     * @return A reset dialog ready to be filled and shown
+     */
+    public PooledDialog acquire(double minWidth, double minHeight, double cornerRadius, TitleBarStyle style, Window owner) {
+        return acquire(minWidth, minHeight, cornerRadius, style, ControlGlyphStyle.RASTER, owner);
+    }
+
+    /**
+     * Gets a dialog of the given size and styles, reusing an idle one when possible.
+     *
+     * @param minWidth The minimum width of the stage
+     * @param minHeight The minimum height of the stage
+     * @param cornerRadius The corner radius in pixels
+     * @param style The title bar style
+     * @param glyphStyle The glyph style of the window control buttons
+     * @param owner The owner window, or null
+     * @return A reset dialog ready to be filled and shown
+     */
+    public PooledDialog acquire(double minWidth, double minHeight, double cornerRadius, TitleBarStyle style,
+                                ControlGlyphStyle glyphStyle, Window owner) {
+        Objects.requireNonNull(style, "TitleBarStyle cannot be null");
+        Objects.requireNonNull(glyphStyle, "ControlGlyphStyle cannot be null");
+        Key key = new Key(minWidth, minHeight, cornerRadius, style, glyphStyle);
+
+        PooledDialog dialog = takeIdle(key, owner);
+        if (dialog != null) {
+            reuseCount++;
+        } else {
+            dialog = create(key);
+        }
+
+        if (owner != null && dialog.getStage().getOwner() == null) {
+            dialog.getStage().initOwner(owner);
+        }
+        dialog.markInUse();
+        return dialog;
+    }
+
+    /**
+     * Builds idle dialogs with raster control icons in advance, up to the pool limit for the
+     * given size and style.
+     *
+     * @param minWidth The minimum width of the stage
+     * @param minHeight The minimum height of the stage
+     * @param cornerRadius The corner radius in pixels
+     * @param style The title bar style
+     * @param count The number of dialogs wanted
+     */
+    public void prewarm(double minWidth, double minHeight, double cornerRadius, TitleBarStyle style, int count) {
+        prewarm(minWidth, minHeight, cornerRadius, style, ControlGlyphStyle.RASTER, count);
+    }
+
+    /**
+     * Builds idle dialogs in advance, up to the pool limit for the given size and styles.
+     *
+     * @param minWidth The minimum width of the stage
+     * @param minHeight The minimum height of the stage
+     * @param cornerRadius The corner radius in pixels
+     * @param style The title bar style
+     * @param glyphStyle The glyph style of the window control buttons
+     * @param count The number of dialogs wanted
+     */
+    public void prewarm(double minWidth, double minHeight, double cornerRadius, TitleBarStyle style,
+                        ControlGlyphStyle glyphStyle, int count) {
+        Objects.requireNonNull(style, "TitleBarStyle cannot be null");
+        Objects.requireNonNull(glyphStyle, "ControlGlyphStyle cannot be null");
+        Key key = new Key(minWidth, minHeight, cornerRadius, style, glyphStyle);
+        Deque<PooledDialog> deque = idleDialogs.computeIfAbsent(key, k -> new ArrayDeque<>());
+        long now = System.nanoTime();
+        while (deque.size() < Math.min(count, maxIdlePerKey)) {
+            PooledDialog dialog = create(key);
+            dialog.reset(now);
+            deque.push(dialog);
+        }
+        scheduleEviction();
+    }
+
+    /**
+     * Evicts all idle dialogs.
+     */
+    public void clear() {
+        for (Deque<PooledDialog> deque : idleDialogs.values()) {
+            for (PooledDialog dialog : deque) {
+                keys.remove(dialog);
+                dialog.getStage().dispose();
+                evictedCount++;
+            }
+        }
+        idleDialogs.clear();
+        evictionTimer.stop();
+    }
+
+    void release(PooledDialog dialog) {
+        Key key = keys.get(dialog);
+        if (key == null) {
+            return;
+        }
+        releaseCount++;
+        dialog.reset(System.nanoTime());
+
+        Deque<PooledDialog> deque = idleDialogs.computeIfAbsent(key, k -> new ArrayDeque<>());
+        if (deque.size() >= maxIdlePerKey) {
+            keys.remove(dialog);
+            dialog.getStage().dispose();
+            evictedCount++;
+            return;
+        }
+        deque.push(dialog);
+        scheduleEviction();
+    }
+
+    void discard(PooledDialog dialog) {
+        Key key = keys.remove(dialog);
+        if (key != null) {
+            Deque<PooledDialog> deque = idleDialogs.get(key);
+            if (deque != null) {
+                deque.remove(dialog);
+            }
+            evictedCount++;
+        }
+    }
+
+    private PooledDialog takeIdle(Key key, Window owner) {
+        Deque<PooledDialog> deque = idleDialogs.get(key);
+        if (deque == null) {
+            return null;
+        }
+        // Prefer a dialog that already belongs to the owner, else a fresh one
+        PooledDialog fallback = null;
+        for (PooledDialog dialog : deque) {
+            if (dialog.getStage().getOwner() == owner) {
+                deque.remove(dialog);
+                return dialog;
+            }
+            if (fallback == null && dialog.canInitOwner()) {
+                fallback = dialog;
+            }
+        }
+        if (fallback != null) {
+            deque.remove(fallback);
+        }
+        return fallback;
+    }
+
+    private PooledDialog create(Key key) {
+        PooledDialog dialog = new PooledDialog(this, key.minWidth(), key.minHeight(), key.cornerRadius(), key.style(),
+                key.glyphStyle());
+        keys.put(dialog, key);
+        createdCount++;
+        return dialog;
+    }
+
+    private void scheduleEviction() {
+        if (evictionTimer.getStatus() != Animation.Status.RUNNING) {
+            evictionTimer.playFromStart();
+        }
+    }
+
+    private void evictExpired() {
+        long timeoutNanos = (long) (idleTimeout.toMillis() * 1_000_000L);
+        long now = System.nanoTime();
+        boolean remaining = false;
+
+        for (Iterator<Deque<PooledDialog>> it = idleDialogs.values().iterator(); it.hasNext(); ) {
+            Deque<PooledDialog> deque = it.next();
+            deque.removeIf(dialog -> {
+                if (now - dialog.getIdleSince() >= timeoutNanos) {
+                    keys.remove(dialog);
+                    dialog.getStage().dispose();
+                    evictedCount++;
+                    return true;
+                }
+                return false;
+            });
+            if (deque.isEmpty()) {
+                it.remove();
+            } else {
+                remaining = true;
+            }
+        }
+
+        LOGGER.log(Level.FINE, "Dialog pool eviction done, {0} dialogs idle", getIdleCount());
+        if (remaining) {
+            evictionTimer.playFromStart();
+        }
+    }
+
+    /**
+     * Sets the maximum number of idle dialogs kept per size and style.
+     *
+     * @param maxIdlePerKey The maximum, at least 0
+     */
+    public void setMaxIdlePerKey(int maxIdlePerKey) {
+        if (maxIdlePerKey < 0) {
+            throw new IllegalArgumentException("maxIdlePerKey cannot be negative");
+        }
+        this.maxIdlePerKey = maxIdlePerKey;
+    }
+
+    /**
+     * Gets the maximum number of idle dialogs kept per size and style.
+     *
+     * @return The maximum
+     */
+    public int getMaxIdlePerKey() {
+        return maxIdlePerKey;
+    }
+
+    /**
+     * Sets how long an idle dialog is kept before it is evicted.
+     *
+     * @param idleTimeout The idle timeout
+     */
+    public void setIdleTimeout(Duration idleTimeout) {
+        Objects.requireNonNull(idleTimeout, "Idle timeout cannot be null");
+        this.idleTimeout = idleTimeout;
+        evictionTimer.setDuration(idleTimeout);
+    }
+
+    /**
+     * Gets how long an idle dialog is kept before it is evicted.
+     *
+     * @return The idle timeout
+     */
+    public Duration getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    /**
+     * Gets the number of dialogs built by this pool.
+     *
+     * @return The number of created dialogs
+     */
+    public long getCreatedCount() {
+        return createdCount;
+    }
+
+    /**
+     * Gets the number of acquisitions served by an idle dialog.
+     *
+     * @return The number of reuses
+     */
+    public long getReuseCount() {
+        return reuseCount;
+    }
+
+    /**
+     * Gets the number of dialogs returned to the pool.
+     *
+     * @return The number of releases
+     */
+    public long getReleaseCount() {
+        return releaseCount;
+    }
+
+    /**
+     * Gets the number of dialogs dropped because the pool was full or they idled too long.
+     *
+     * @return The number of evicted dialogs
+     */
+    public long getEvictedCount() {
+        return evictedCount;
+    }
+
+    /**
+     * Gets the number of idle dialogs currently held.
+     *
+     * @return The idle count
+     */
+    public int getIdleCount() {
+        int count = 0;
+        for (Deque<PooledDialog> deque : idleDialogs.values()) {
+            count += deque.size();
+        }
+        return count;
+    }
+}
@@ -0,0 +1,160 @@
+package id.alphareso.meidofx.base.dialogs;
+
+import id.alphareso.meidofx.base.enums.ControlGlyphStyle;
+import id.alphareso.meidofx.base.enums.RenderStrategy;
+import id.alphareso.meidofx.base.enums.TitleBarStyle;
+import id.alphareso.meidofx.base.stages.RoundStage;
+import id.alphareso.meidofx.base.titles.TitleBar;
+import javafx.scene.Node;
+import javafx.scene.image.Image;
+import javafx.scene.layout.Background;
+import javafx.scene.layout.BorderPane;
+import javafx.scene.paint.Color;
+import javafx.stage.WindowEvent;
+
+/**
+ * A pre-built {@link RoundStage} and its {@link TitleBar}, handed out by a {@link DialogPool}.
+ * The dialog returns to its pool when it is hidden or when {@link #release()} is called.
+ * Disposing the stage takes the dialog out of the pool for good.
+ */
+public class PooledDialog {
+    private final DialogPool pool;
+    private final TitleBarStyle style;
+    private final RoundStage stage;
+    private final TitleBar titleBar;
+    private final double width;
+    private final double height;
+
+    // Nilai awal stage yang dipulihkan setiap kali dialog kembali ke pool
+    private final RenderStrategy templateStrategy;
+    private final Color templateBackground;
+    private final Background templateContentBackground;
+    private final Node templateLeft;
+    private final Node templateRight;
+
+    private boolean inUse;
+    private boolean shownOnce;
+    private long idleSince;
+
+    PooledDialog(DialogPool pool, double minWidth, double minHeight, double cornerRadius, TitleBarStyle style,
+                 ControlGlyphStyle glyphStyle) {
+        this.pool = pool;
+        this.style = style;
+        this.width = minWidth;
+        this.height = minHeight;
+
+        stage = new RoundStage(minWidth, minHeight, cornerRadius);
+        titleBar = new TitleBar(stage, style, glyphStyle);
+        stage.setTitleBar(titleBar);
+
+        BorderPane layout = stage.getLayout();
+        templateStrategy = stage.getRenderStrategy();
+        templateBackground = stage.getBackgroundColor();
+        templateContentBackground = stage.getContentArea().getBackground();
+        templateLeft = layout.getLeft();
+        templateRight = layout.getRight();
+
+        stage.addEventHandler(WindowEvent.WINDOW_SHOWN, event -> shownOnce = true);
+        // Closing the dialog (e.g. via the close button) returns it to the pool
+        stage.addEventHandler(WindowEvent.WINDOW_HIDDEN, event -> release());
+    }
+
+    /**
+     * Gets the pooled stage.
+     *
+     * @return The stage
+     */
+    public RoundStage getStage() {
+        return stage;
+    }
+
+    /**
+     * Gets the title bar of the pooled stage.
+     *
+     * @return The title bar
+     */
+    public TitleBar getTitleBar() {
+        return titleBar;
+    }
+
+    /**
+     * Hides the dialog if needed and returns it to its pool. Calling this on a dialog that
+     * is already released has no effect.
+     */
+    public void release() {
+        if (!inUse) {
+            return;
+        }
+        inUse = false;
+        if (stage.isShowing()) {
+            stage.hide();
+        }
+        if (stage.isDisposed()) {
+            // Stage yang sudah di-dispose tidak boleh kembali ke pool
+            pool.discard(this);
+        } else {
+            pool.release(this);
+        }
+    }
+
+    TitleBarStyle getStyle() {
+        return style;
+    }
+
+    boolean isInUse() {
+        return inUse;
+    }
+
+    void markInUse() {
+        inUse = true;
+    }
+
+    /**
+     * A stage that has never been shown can still be given an owner.
+     */
+    boolean canInitOwner() {
+        return !shownOnce && stage.getOwner() == null;
+    }
+
+    long getIdleSince() {
+        return idleSince;
+    }
+
+    /**
+     * Resets content, views, sidebars, paint, title, icons, window state, geometry and title
+     * bar style for the next user.
+     */
+    void reset(long now) {
+        idleSince = now;
+
+        if (stage.hasContentRouter()) {
+            stage.getContentRouter().clear();
+        }
+        stage.getContentArea().getChildren().clear();
+        stage.clearNavigationContent();
+        BorderPane layout = stage.getLayout();
+        layout.setTop(titleBar);
+        layout.setLeft(templateLeft);
+        layout.setRight(templateRight);
+
+        stage.setRenderStrategy(templateStrategy);
+        stage.setBackgroundColor(templateBackground);
+        stage.getContentArea().setBackground(templateContentBackground);
+
+        stage.setTitle("");
+        stage.getIcons().clear();
+        stage.setMaximized(false);
+        stage.setIconified(false);
+
+        // Ukuran kembali ke ukuran kunci pool, posisi dihitung ulang saat tampil
+        stage.setWidth(width);
+        stage.setHeight(height);
+        stage.centerOnScreen();
+
+        titleBar.setTitleBarStyle(style);
+        titleBar.setIcon((Image) null);
+        titleBar.setBackgroundCss("");
+        titleBar.getStyleClass().setAll(TitleBar.DEFAULT_STYLE_CLASS);
+        titleBar.getTitleLabel().setStyle("");
+    }
+}
@@ -0,0 +1,19 @@
+package id.alphareso.meidofx.base.enums;
+
+/**
+ * Enumeration defining when the chrome regions of a {@code RoundStage} (layout, content area,
+ * navigation area and resize grip) are created.
+ */
+public enum ChromeConstruction {
+    /**
+     * Create all chrome regions in the constructor.
+     */
+    EAGER,
+
+    /**
+     * Create each chrome region on first use. The navigation area is only created by the
+     * navigation methods and the resize grip only when it is enabled, which keeps lightweight
+     * tool windows small.
+     */
+    LAZY
+}
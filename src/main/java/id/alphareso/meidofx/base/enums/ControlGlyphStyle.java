@@ -0,0 +1,16 @@
+package id.alphareso.meidofx.base.enums;
+
+/**
+ * Enumeration defining how the window control buttons draw their icons.
+ */
+public enum ControlGlyphStyle {
+    /**
+     * PNG icons, decoded in the background and shared through the image cache.
+     */
+    RASTER,
+
+    /**
+     * Vector glyphs shared through the glyph registry. They stay crisp at any render scale.
+     */
+    VECTOR
+}
@@ -0,0 +1,34 @@
+package id.alphareso.meidofx.base.enums;
+
+/**
+ * Enumeration of the rendering quality levels of a {@code RoundStage}, as stepped by
+ * {@code RenderQualityGovernor}. Each level keeps the savings of the levels above it.
+ */
+public enum RenderQuality {
+    /**
+     * Full quality: effects, rounded transparent chrome and live content layout.
+     */
+    FULL,
+
+    /**
+     * Effects such as drop shadows are removed from the window.
+     */
+    NO_EFFECTS,
+
+    /**
+     * The window layout is cached as a bitmap, so moving the window does not render it again.
+     */
+    CACHED,
+
+    /**
+     * The chrome is painted with square corners and the scene fill is made solid, which
+     * removes the rounded background and border from every frame. The window itself stays a
+     * transparent surface; its style cannot change once it is shown.
+     */
+    SQUARE_CHROME,
+
+    /**
+     * Content layout is deferred during a live resize, which stretches a snapshot instead.
+     */
+    DEFERRED_LAYOUT
+}
@@ -0,0 +1,23 @@
+package id.alphareso.meidofx.base.enums;
+
+/**
+ * Enumeration defining how a {@code RoundStage} window is composed by the platform.
+ */
+public enum RenderStrategy {
+    /**
+     * Transparent window with rounded corners. Requires per-pixel alpha composition.
+     */
+    TRANSPARENT,
+
+    /**
+     * Opaque undecorated window with square corners, avoiding per-pixel alpha composition.
+     */
+    OPAQUE,
+
+    /**
+     * Rounded corners normally. On the software pipeline the window is created opaque with
+     * square corners. While a transparent window is maximized (where the corners cannot be
+     * seen) its chrome is painted square and opaque, but it stays a transparent surface.
+     */
+    AUTO
+}
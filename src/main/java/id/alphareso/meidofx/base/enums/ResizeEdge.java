@@ -0,0 +1,131 @@
+package id.alphareso.meidofx.base.enums;
+
+import javafx.scene.Cursor;
+
+/**
+ * Enumeration of the window edges and corners a resize gesture can start from.
+ * Each edge knows the cursor to show and which sides of the window it moves.
+ */
+public enum ResizeEdge {
+    /**
+     * Not on a resize border.
+     */
+    NONE(null, false, false, false, false),
+
+    NORTH(Cursor.N_RESIZE, true, false, false, false),
+    EAST(Cursor.E_RESIZE, false, true, false, false),
+    SOUTH(Cursor.S_RESIZE, false, false, true, false),
+    WEST(Cursor.W_RESIZE, false, false, false, true),
+    NORTH_EAST(Cursor.NE_RESIZE, true, true, false, false),
+    SOUTH_EAST(Cursor.SE_RESIZE, false, true, true, false),
+    SOUTH_WEST(Cursor.SW_RESIZE, false, false, true, true),
+    NORTH_WEST(Cursor.NW_RESIZE, true, false, false, true);
+
+    private static final int N = 1;
+    private static final int E = 1 << 1;
+    private static final int S = 1 << 2;
+    private static final int W = 1 << 3;
+
+    // Lookup table indexed by the N/E/S/W bit mask, so classification does not allocate
+    private static final ResizeEdge[] BY_MASK = new ResizeEdge[16];
+
+    static {
+        for (int mask = 0; mask < BY_MASK.length; mask++) {
+            BY_MASK[mask] = classify((mask & N) != 0, (mask & E) != 0, (mask & S) != 0, (mask & W) != 0);
+        }
+    }
+
+    private final Cursor cursor;
+    private final boolean north;
+    private final boolean east;
+    private final boolean south;
+    private final boolean west;
+
+    ResizeEdge(Cursor cursor, boolean north, boolean east, boolean south, boolean west) {
+        this.cursor = cursor;
+        this.north = north;
+        this.east = east;
+        this.south = south;
+        this.west = west;
+    }
+
+    /**
+     * Gets the edge for the given combination of hovered sides. Corners take precedence
+     * over single sides.
+     *
+     * @param north Whether the pointer is within the north margin
+     * @param east Whether the pointer is within the east margin
+     * @param south Whether the pointer is within the south margin
+     * @param west Whether the pointer is within the west margin
+     * @return The matching edge, or {@link #NONE}
+     */
+    public static ResizeEdge of(boolean north, boolean east, boolean south, boolean west) {
+        return BY_MASK[(north ? N : 0) | (east ? E : 0) | (south ? S : 0) | (west ? W : 0)];
+    }
+
+    private static ResizeEdge classify(boolean north, boolean east, boolean south, boolean west) {
+        if (north && east) {
+            return NORTH_EAST;
+        } else if (south && east) {
+            return SOUTH_EAST;
+        } else if (south && west) {
+            return SOUTH_WEST;
+        } else if (north && west) {
+            return NORTH_WEST;
+        } else if (north) {
+            return NORTH;
+        } else if (east) {
+            return EAST;
+        } else if (south) {
+            return SOUTH;
+        } else if (west) {
+            return WEST;
+        }
+        return NONE;
+    }
+
+    /**
+     * Gets the cursor shown while hovering or dragging this edge.
+     *
+     * @return The resize cursor, or null for {@link #NONE}
+     */
+    public Cursor getCursor() {
+        return cursor;
+    }
+
+    /**
+     * Determines if this edge moves the top side of the window.
+     *
+     * @return true for north edges and corners
+     */
+    public boolean isNorth() {
+        return north;
+    }
+
+    /**
+     * Determines if this edge moves the right side of the window.
+     *
+     * @return true for east edges and corners
+     */
+    public boolean isEast() {
+        return east;
+    }
+
+    /**
+     * Determines if this edge moves the bottom side of the window.
+     *
+     * @return true for south edges and corners
+     */
+    public boolean isSouth() {
+        return south;
+    }
+
+    /**
+     * Determines if this edge moves the left side of the window.
+     *
+     * @return true for west edges and corners
+     */
+    public boolean isWest() {
+        return west;
+    }
+}
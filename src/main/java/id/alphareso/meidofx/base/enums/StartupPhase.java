@@ -0,0 +1,42 @@
+package id.alphareso.meidofx.base.enums;
+
+/**
+ * Enumeration of the well-known phases recorded by the {@code StartupTimeline}, in the order
+ * they normally occur.
+ */
+public enum StartupPhase {
+    /**
+     * The process was started by the operating system.
+     */
+    LAUNCH,
+
+    /**
+     * The warm-up service started preloading classes, fonts, stylesheets and images.
+     */
+    WARMUP_STARTED,
+
+    /**
+     * The warm-up service finished.
+     */
+    WARMUP_FINISHED,
+
+    /**
+     * The constructor of the first stage completed.
+     */
+    FIRST_STAGE_CONSTRUCTED,
+
+    /**
+     * The first stage was shown.
+     */
+    FIRST_STAGE_SHOWN,
+
+    /**
+     * The first pulse processed CSS and layout of the first shown stage.
+     */
+    FIRST_PULSE,
+
+    /**
+     * The first frame of the first shown stage was rendered.
+     */
+    FIRST_PAINT
+}
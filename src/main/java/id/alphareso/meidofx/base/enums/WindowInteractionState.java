@@ -0,0 +1,32 @@
+package id.alphareso.meidofx.base.enums;
+
+/**
+ * Enumeration of the pointer interaction states of a window, as tracked by
+ * {@code WindowInteractionController}.
+ */
+public enum WindowInteractionState {
+    /**
+     * No interaction in progress and the pointer is not over a resize border.
+     */
+    IDLE,
+
+    /**
+     * The pointer hovers a resize border and the resize cursor is shown.
+     */
+    HOVER_EDGE,
+
+    /**
+     * The window is being moved by dragging a drag region such as the title bar.
+     */
+    DRAGGING,
+
+    /**
+     * The window is being resized from an edge, a corner or the resize grip.
+     */
+    RESIZING,
+
+    /**
+     * The window is toggling between maximized and restored state.
+     */
+    MAXIMIZING
+}
@@ -1,5 +1,6 @@
 package id.alphareso.meidofx.base.handlers;
 
+import id.alphareso.meidofx.base.diagnostics.LayoutProfiler;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Node;
@@ -8,11 +9,9 @@ import javafx.stage.Stage;
 
 /**
  * Handler for window dragging functionality, enables moving the window by dragging the title bar.
+ * Dragging itself is handled by the stage's {@link WindowInteractionController}.
  */
 public class WindowDragHandler extends HBox {
-    private double xOffset = 0;
-    private double yOffset = 0;
-
     private final Stage stage;
     private static final double DEFAULT_SPACING = 5;
     private static final double DEFAULT_PADDING = 5;
@@ -31,28 +30,54 @@ public class WindowDragHandler extends HBox {
 
     /**
      * Applies drag functionality to the specified node, typically a title bar.
+     * Double clicking the node maximizes or restores the window.
      *
      * @param node The node that will be used as a draggable area
      */
     public void enableDrag(Node node) {
-        node.setOnMousePressed(event -> {
-            xOffset = event.getSceneX();
-            yOffset = event.getSceneY();
-        });
+        WindowInteractionController.of(stage).addDragRegion(node);
+    }
 
-        node.setOnMouseDragged(event -> {
-            // Don't allow dragging when maximized
-            if (!stage.isMaximized()) {
-                stage.setX(event.getScreenX() - xOffset);
-                stage.setY(event.getScreenY() - yOffset);
-            }
-        });
+    @Override
+    protected void layoutChildren() {
+        LayoutProfiler profiler = LayoutProfiler.getActive();
+        if (profiler == null) {
+            super.layoutChildren();
+            return;
+        }
+        long start = profiler.enter();
+        try {
+            super.layoutChildren();
+        } finally {
+            profiler.layoutFinished(this, start);
+        }
+    }
+
+    @Override
+    protected double computePrefWidth(double height) {
+        LayoutProfiler profiler = LayoutProfiler.getActive();
+        if (profiler == null) {
+            return super.computePrefWidth(height);
+        }
+        long start = profiler.enter();
+        try {
+            return super.computePrefWidth(height);
+        } finally {
+            profiler.prefSizeFinished(this, start);
+        }
+    }
 
-        // Double click to maximize/restore
-        node.setOnMouseClicked(event -> {
-            if (event.getClickCount() == 2) {
-                stage.setMaximized(!stage.isMaximized());
-            }
-        });
+    @Override
+    protected double computePrefHeight(double width) {
+        LayoutProfiler profiler = LayoutProfiler.getActive();
+        if (profiler == null) {
+            return super.computePrefHeight(width);
+        }
+        long start = profiler.enter();
+        try {
+            return super.computePrefHeight(width);
+        } finally {
+            profiler.prefSizeFinished(this, start);
+        }
     }
-}
\ No newline at end of file
+}
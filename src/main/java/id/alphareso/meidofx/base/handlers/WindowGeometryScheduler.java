@@ -0,0 +1,257 @@
+package id.alphareso.meidofx.base.handlers;
+
+import javafx.application.Platform;
+import javafx.beans.value.ChangeListener;
+import javafx.scene.Scene;
+import javafx.stage.Stage;
+
+import java.util.Objects;
+
+/**
+ * Coalesces window geometry changes so that they are applied at most once per JavaFX pulse.
+ * <p>
+ * Mouse drag events can arrive several times per frame on high polling rate devices. Instead of
+ * moving or resizing the native window for every event, handlers record the latest target bounds
+ * here and the scheduler applies them as one combined x/y/width/height update right before the
+ * next layout pass. Intermediate targets are dropped and counted.
+ */
+public final class WindowGeometryScheduler {
+    private static final Object PROPERTY_KEY = WindowGeometryScheduler.class;
+
+    private static final int DIRTY_X = 1;
+    private static final int DIRTY_Y = 1 << 1;
+    private static final int DIRTY_WIDTH = 1 << 2;
+    private static final int DIRTY_HEIGHT = 1 << 3;
+
+    private final Stage stage;
+    private final Runnable pulseListener = this::flush;
+    private final ChangeListener<Scene> sceneListener = (obs, oldScene, newScene) -> {
+        if (oldScene != null) {
+            oldScene.removePreLayoutPulseListener(pulseListener);
+        }
+        if (newScene != null) {
+            newScene.addPreLayoutPulseListener(pulseListener);
+        }
+    };
+
+    private int dirty;
+    private double targetX;
+    private double targetY;
+    private double targetWidth;
+    private double targetHeight;
+
+    private long pendingRequests;
+    private long requestedUpdates;
+    private long appliedUpdates;
+    private long droppedUpdates;
+
+    private WindowGeometryScheduler(Stage stage) {
+        this.stage = stage;
+        stage.sceneProperty().addListener(sceneListener);
+        if (stage.getScene() != null) {
+            stage.getScene().addPreLayoutPulseListener(pulseListener);
+        }
+    }
+
+    /**
+     * Gets the scheduler associated with the specified stage, creating it on first use.
+     *
+     * @param stage The stage whose geometry is scheduled
+     * @return The shared scheduler for the stage
+     */
+    public static WindowGeometryScheduler of(Stage stage) {
+        Objects.requireNonNull(stage, "Stage cannot be null");
+        Object scheduler = stage.getProperties().get(PROPERTY_KEY);
+        if (scheduler == null) {
+            scheduler = new WindowGeometryScheduler(stage);
+            stage.getProperties().put(PROPERTY_KEY, scheduler);
+        }
+        return (WindowGeometryScheduler) scheduler;
+    }
+
+    /**
+     * Requests a new window location.
+     *
+     * @param x The target screen x coordinate
+     * @param y The target screen y coordinate
+     */
+    public void requestLocation(double x, double y) {
+        targetX = x;
+        targetY = y;
+        schedule(DIRTY_X | DIRTY_Y);
+    }
+
+    /**
+     * Requests a new window size.
+     *
+     * @param width The target width
+     * @param height The target height
+     */
+    public void requestSize(double width, double height) {
+        targetWidth = width;
+        targetHeight = height;
+        schedule(DIRTY_WIDTH | DIRTY_HEIGHT);
+    }
+
+    /**
+     * Requests new window bounds.
+     *
+     * @param x The target screen x coordinate
+     * @param y The target screen y coordinate
+     * @param width The target width
+     * @param height The target height
+     */
+    public void requestBounds(double x, double y, double width, double height) {
+        targetX = x;
+        targetY = y;
+        targetWidth = width;
+        targetHeight = height;
+        schedule(DIRTY_X | DIRTY_Y | DIRTY_WIDTH | DIRTY_HEIGHT);
+    }
+
+    /**
+     * Gets the x coordinate the window will have after the next flush.
+     *
+     * @return The pending x coordinate, or the current one if none is pending
+     */
+    public double getX() {
+        return (dirty & DIRTY_X) != 0 ? targetX : stage.getX();
+    }
+
+    /**
+     * Gets the y coordinate the window will have after the next flush.
+     *
+     * @return The pending y coordinate, or the current one if none is pending
+     */
+    public double getY() {
+        return (dirty & DIRTY_Y) != 0 ? targetY : stage.getY();
+    }
+
+    /**
+     * Gets the width the window will have after the next flush.
+     *
+     * @return The pending width, or the current one if none is pending
+     */
+    public double getWidth() {
+        return (dirty & DIRTY_WIDTH) != 0 ? targetWidth : stage.getWidth();
+    }
+
+    /**
+     * Gets the height the window will have after the next flush.
+     *
+     * @return The pending height, or the current one if none is pending
+     */
+    public double getHeight() {
+        return (dirty & DIRTY_HEIGHT) != 0 ? targetHeight : stage.getHeight();
+    }
+
+    /**
+     * Checks whether a geometry update is waiting for the next pulse.
+     *
+     * @return true if an update is pending
+     */
+    public boolean isPending() {
+        return dirty != 0;
+    }
+
+    /**
+     * Applies the pending geometry immediately. This is called automatically on every pulse
+     * and only needs to be called directly when the stage has no scene yet.
+     */
+    public void flush() {
+        if (dirty == 0) {
+            return;
+        }
+        int applied = dirty;
+        dirty = 0;
+
+        if ((applied & DIRTY_X) != 0) {
+            stage.setX(targetX);
+        }
+        if ((applied & DIRTY_Y) != 0) {
+            stage.setY(targetY);
+        }
+        if ((applied & DIRTY_WIDTH) != 0) {
+            stage.setWidth(targetWidth);
+        }
+        if ((applied & DIRTY_HEIGHT) != 0) {
+            stage.setHeight(targetHeight);
+        }
+
+        appliedUpdates++;
+        droppedUpdates += pendingRequests - 1;
+        pendingRequests = 0;
+    }
+
+    /**
+     * Discards any pending geometry update without applying it.
+     */
+    public void cancel() {
+        droppedUpdates += pendingRequests;
+        pendingRequests = 0;
+        dirty = 0;
+    }
+
+    /**
+     * Discards pending updates and detaches the scheduler from its stage. A later call to
+     * {@link #of(Stage)} installs a new scheduler.
+     */
+    public void dispose() {
+        cancel();
+        stage.sceneProperty().removeListener(sceneListener);
+        if (stage.getScene() != null) {
+            stage.getScene().removePreLayoutPulseListener(pulseListener);
+        }
+        stage.getProperties().remove(PROPERTY_KEY, this);
+    }
+
+    /**
+     * Gets the number of geometry requests received since the last reset.
+     *
+     * @return The number of requests
+     */
+    public long getRequestedCount() {
+        return requestedUpdates;
+    }
+
+    /**
+     * Gets the number of combined updates applied to the window since the last reset.
+     *
+     * @return The number of applied updates
+     */
+    public long getAppliedCount() {
+        return appliedUpdates;
+    }
+
+    /**
+     * Gets the number of requests that were superseded by a later request before being applied.
+     *
+     * @return The number of dropped requests
+     */
+    public long getDroppedCount() {
+        return droppedUpdates;
+    }
+
+    /**
+     * Resets the requested, applied and dropped counters.
+     */
+    public void resetStatistics() {
+        requestedUpdates = 0;
+        appliedUpdates = 0;
+        droppedUpdates = 0;
+    }
+
+    private void schedule(int flags) {
+        requestedUpdates++;
+        pendingRequests++;
+        boolean wasPending = dirty != 0;
+        dirty |= flags;
+
+        if (stage.getScene() == null) {
+            // Tanpa scene tidak ada pulse, jadi terapkan langsung
+            flush();
+        } else if (!wasPending) {
+            Platform.requestNextPulse();
+        }
+    }
+}
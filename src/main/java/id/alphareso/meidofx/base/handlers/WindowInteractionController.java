@@ -0,0 +1,479 @@
+package id.alphareso.meidofx.base.handlers;
+
+import id.alphareso.meidofx.base.diagnostics.DragSessionEvent;
+import id.alphareso.meidofx.base.diagnostics.ResizeSessionEvent;
+import id.alphareso.meidofx.base.enums.ResizeEdge;
+import id.alphareso.meidofx.base.enums.WindowInteractionState;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.value.ChangeListener;
+import javafx.event.EventHandler;
+import javafx.event.EventType;
+import javafx.scene.Cursor;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.control.ButtonBase;
+import javafx.scene.input.MouseButton;
+import javafx.scene.input.MouseEvent;
+import javafx.stage.Stage;
+
+import java.util.Objects;
+
+/**
+ * Drives all pointer interaction with a window (moving, edge resizing, grip resizing and
+ * double-click maximizing) from a single event filter on the stage's scene.
+ * <p>
+ * Nodes take part by being registered as drag regions or resize grips; the role is stored in
+ * the node's properties and found by walking up from the picked node, so no per-node handlers
+ * are installed. Border hit-testing only classifies the edge when the pointer is within the
+ * margin band, and the cursor is only changed when the hovered edge changes. The hot paths
+ * (move, drag) do not allocate.
+ */
+public final class WindowInteractionController implements EventHandler<MouseEvent> {
+    private static final Object PROPERTY_KEY = WindowInteractionController.class;
+    private static final Object ROLE_KEY = new Object();
+    private static final Object DRAG_ROLE = new Object();
+    private static final double DEFAULT_RESIZE_MARGIN = 5.0;
+
+    private final Stage stage;
+    private final WindowGeometryScheduler geometry;
+    private final ReadOnlyObjectWrapper<WindowInteractionState> state =
+            new ReadOnlyObjectWrapper<>(this, "state", WindowInteractionState.IDLE);
+    private final ChangeListener<Scene> sceneListener = (obs, oldScene, newScene) -> attach(oldScene, newScene);
+
+    private Scene scene;
+    private boolean borderResizeEnabled;
+    private double resizeMargin = DEFAULT_RESIZE_MARGIN;
+
+    // Edge whose cursor is currently shown, and the scene cursor to restore afterwards
+    private ResizeEdge cursorEdge = ResizeEdge.NONE;
+    private Cursor restoreCursor;
+
+    private ResizeEdge activeEdge = ResizeEdge.NONE;
+    private double pressScreenX;
+    private double pressScreenY;
+    private double startX;
+    private double startY;
+    private double startWidth;
+    private double startHeight;
+
+    private long interactionEvents;
+
+    // Sesi JFR yang sedang berjalan; hanya dibuat saat JFR merekam event tersebut
+    private DragSessionEvent dragSession;
+    private ResizeSessionEvent resizeSession;
+    private long sessionStartEvents;
+    private long sessionStartApplied;
+
+    private WindowInteractionController(Stage stage) {
+        this.stage = stage;
+        this.geometry = WindowGeometryScheduler.of(stage);
+        stage.sceneProperty().addListener(sceneListener);
+        attach(null, stage.getScene());
+    }
+
+    /**
+     * Gets the interaction controller of the specified stage, installing it on first use.
+     *
+     * @param stage The stage whose interaction is handled
+     * @return The shared controller for the stage
+     */
+    public static WindowInteractionController of(Stage stage) {
+        Objects.requireNonNull(stage, "Stage cannot be null");
+        Object controller = stage.getProperties().get(PROPERTY_KEY);
+        if (controller == null) {
+            controller = new WindowInteractionController(stage);
+            stage.getProperties().put(PROPERTY_KEY, controller);
+        }
+        return (WindowInteractionController) controller;
+    }
+
+    /**
+     * Registers a node as a drag region. Pressing and dragging on the node (or any of its
+     * descendants that are not buttons) moves the window, and double-clicking toggles the
+     * maximized state.
+     *
+     * @param node The node used as a draggable area
+     */
+    public void addDragRegion(Node node) {
+        node.getProperties().put(ROLE_KEY, DRAG_ROLE);
+    }
+
+    /**
+     * Registers a node as a resize grip that resizes the window from the given edge.
+     *
+     * @param node The grip node
+     * @param edge The edge or corner the grip resizes
+     */
+    public void addResizeGrip(Node node, ResizeEdge edge) {
+        Objects.requireNonNull(edge, "ResizeEdge cannot be null");
+        if (edge == ResizeEdge.NONE) {
+            throw new IllegalArgumentException("Resize grip needs an edge");
+        }
+        node.getProperties().put(ROLE_KEY, edge);
+    }
+
+    /**
+     * Removes a drag region or resize grip registration from a node.
+     *
+     * @param node The node to unregister
+     */
+    public void removeRole(Node node) {
+        if (node.hasProperties()) {
+            node.getProperties().remove(ROLE_KEY);
+        }
+    }
+
+    /**
+     * Enables or disables resizing from the window borders.
+     *
+     * @param enabled true to allow resizing from any edge of the window
+     */
+    public void setBorderResizeEnabled(boolean enabled) {
+        this.borderResizeEnabled = enabled;
+        if (!enabled && state.get() == WindowInteractionState.HOVER_EDGE) {
+            showCursor(ResizeEdge.NONE);
+            state.set(WindowInteractionState.IDLE);
+        }
+    }
+
+    /**
+     * Checks whether resizing from the window borders is enabled.
+     *
+     * @return true if border resizing is enabled
+     */
+    public boolean isBorderResizeEnabled() {
+        return borderResizeEnabled;
+    }
+
+    /**
+     * Sets the width of the band along the window borders that starts a resize.
+     *
+     * @param margin The margin in pixels
+     */
+    public void setResizeMargin(double margin) {
+        this.resizeMargin = margin;
+    }
+
+    /**
+     * Gets the width of the border resize band.
+     *
+     * @return The margin in pixels
+     */
+    public double getResizeMargin() {
+        return resizeMargin;
+    }
+
+    /**
+     * The current interaction state of the window.
+     *
+     * @return The read-only state property
+     */
+    public ReadOnlyObjectProperty<WindowInteractionState> stateProperty() {
+        return state.getReadOnlyProperty();
+    }
+
+    /**
+     * Gets the current interaction state of the window.
+     *
+     * @return The current state
+     */
+    public WindowInteractionState getState() {
+        return state.get();
+    }
+
+    /**
+     * Gets the edge of the resize in progress.
+     *
+     * @return The active edge, or {@link ResizeEdge#NONE} when not resizing
+     */
+    public ResizeEdge getActiveEdge() {
+        return activeEdge;
+    }
+
+    /**
+     * Gets the number of drag and resize events handled since the controller was installed.
+     *
+     * @return The number of handled drag and resize events
+     */
+    public long getInteractionEventCount() {
+        return interactionEvents;
+    }
+
+    /**
+     * Gets the geometry scheduler that applies moves and resizes.
+     *
+     * @return The geometry scheduler of the stage
+     */
+    public WindowGeometryScheduler getGeometryScheduler() {
+        return geometry;
+    }
+
+    @Override
+    public void handle(MouseEvent event) {
+        EventType<? extends MouseEvent> type = event.getEventType();
+        if (type == MouseEvent.MOUSE_MOVED) {
+            onMoved(event);
+        } else if (type == MouseEvent.MOUSE_DRAGGED) {
+            onDragged(event);
+        } else if (type == MouseEvent.MOUSE_PRESSED) {
+            onPressed(event);
+        } else if (type == MouseEvent.MOUSE_RELEASED) {
+            onReleased(event);
+        } else if (type == MouseEvent.MOUSE_CLICKED) {
+            onClicked(event);
+        } else if (type == MouseEvent.MOUSE_EXITED && event.getTarget() == scene) {
+            onExited();
+        }
+    }
+
+    private void onMoved(MouseEvent event) {
+        WindowInteractionState current = state.get();
+        if (current == WindowInteractionState.DRAGGING || current == WindowInteractionState.RESIZING) {
+            return;
+        }
+        ResizeEdge edge = hitTest(event.getSceneX(), event.getSceneY());
+        showCursor(edge);
+        state.set(edge == ResizeEdge.NONE ? WindowInteractionState.IDLE : WindowInteractionState.HOVER_EDGE);
+    }
+
+    private void onPressed(MouseEvent event) {
+        if (event.getButton() != MouseButton.PRIMARY) {
+            return;
+        }
+
+        ResizeEdge edge = hitTest(event.getSceneX(), event.getSceneY());
+        if (edge != ResizeEdge.NONE) {
+            beginResize(edge, event);
+            beginResizeSession(edge, "border");
+            event.consume();
+            return;
+        }
+
+        Object role = findRole(event.getPickResult().getIntersectedNode());
+        if (role instanceof ResizeEdge) {
+            if (!stage.isMaximized()) {
+                beginResize((ResizeEdge) role, event);
+                beginResizeSession((ResizeEdge) role, "grip");
+            }
+            event.consume();
+        } else if (role == DRAG_ROLE && !stage.isMaximized()) {
+            // Don't allow dragging when maximized
+            pressScreenX = event.getScreenX() - geometry.getX();
+            pressScreenY = event.getScreenY() - geometry.getY();
+            state.set(WindowInteractionState.DRAGGING);
+            beginDragSession();
+        }
+    }
+
+    private void onDragged(MouseEvent event) {
+        WindowInteractionState current = state.get();
+        if (current == WindowInteractionState.DRAGGING) {
+            geometry.requestLocation(event.getScreenX() - pressScreenX, event.getScreenY() - pressScreenY);
+        } else if (current == WindowInteractionState.RESIZING) {
+            resizeTo(event.getScreenX(), event.getScreenY());
+        } else {
+            return;
+        }
+        interactionEvents++;
+        event.consume();
+    }
+
+    private void onReleased(MouseEvent event) {
+        WindowInteractionState current = state.get();
+        if (current != WindowInteractionState.DRAGGING && current != WindowInteractionState.RESIZING) {
+            return;
+        }
+        activeEdge = ResizeEdge.NONE;
+        endSessions();
+
+        ResizeEdge edge = hitTest(event.getSceneX(), event.getSceneY());
+        showCursor(edge);
+        state.set(edge == ResizeEdge.NONE ? WindowInteractionState.IDLE : WindowInteractionState.HOVER_EDGE);
+    }
+
+    private void onClicked(MouseEvent event) {
+        // Double click to maximize/restore
+        if (event.getButton() != MouseButton.PRIMARY || event.getClickCount() != 2
+                || findRole(event.getPickResult().getIntersectedNode()) != DRAG_ROLE) {
+            return;
+        }
+        geometry.cancel();
+        showCursor(ResizeEdge.NONE);
+        state.set(WindowInteractionState.MAXIMIZING);
+        stage.setMaximized(!stage.isMaximized());
+        state.set(WindowInteractionState.IDLE);
+    }
+
+    private void onExited() {
+        if (state.get() == WindowInteractionState.HOVER_EDGE) {
+            showCursor(ResizeEdge.NONE);
+            state.set(WindowInteractionState.IDLE);
+        }
+    }
+
+    private void beginResize(ResizeEdge edge, MouseEvent event) {
+        activeEdge = edge;
+        pressScreenX = event.getScreenX();
+        pressScreenY = event.getScreenY();
+        startX = geometry.getX();
+        startY = geometry.getY();
+        startWidth = geometry.getWidth();
+        startHeight = geometry.getHeight();
+        showCursor(edge);
+        state.set(WindowInteractionState.RESIZING);
+    }
+
+    private void beginDragSession() {
+        DragSessionEvent session = new DragSessionEvent();
+        if (session.isEnabled()) {
+            session.begin();
+            dragSession = session;
+            markSessionStart();
+        }
+    }
+
+    private void beginResizeSession(ResizeEdge edge, String source) {
+        ResizeSessionEvent session = new ResizeSessionEvent();
+        if (session.isEnabled()) {
+            session.begin();
+            session.edge = edge.name();
+            session.source = source;
+            resizeSession = session;
+            markSessionStart();
+        }
+    }
+
+    private void markSessionStart() {
+        sessionStartEvents = interactionEvents;
+        sessionStartApplied = geometry.getAppliedCount();
+    }
+
+    private void endSessions() {
+        if (dragSession == null && resizeSession == null) {
+            return;
+        }
+        long events = interactionEvents - sessionStartEvents;
+        // Perubahan yang masih tertunda akan diterapkan pada pulse berikutnya
+        long applied = geometry.getAppliedCount() - sessionStartApplied + (geometry.isPending() ? 1 : 0);
+        if (dragSession != null) {
+            dragSession.end();
+            if (dragSession.shouldCommit()) {
+                dragSession.windowTitle = stage.getTitle();
+                dragSession.dragEvents = events;
+                dragSession.appliedMoves = applied;
+                dragSession.commit();
+            }
+            dragSession = null;
+        }
+        if (resizeSession != null) {
+            resizeSession.end();
+            if (resizeSession.shouldCommit()) {
+                resizeSession.windowTitle = stage.getTitle();
+                resizeSession.dragEvents = events;
+                resizeSession.appliedResizes = applied;
+                resizeSession.commit();
+            }
+            resizeSession = null;
+        }
+    }
+
+    private void resizeTo(double screenX, double screenY) {
+        double dx = screenX - pressScreenX;
+        double dy = screenY - pressScreenY;
+        double x = startX;
+        double y = startY;
+        double width = startWidth;
+        double height = startHeight;
+
+        // The opposite side stays anchored, sizes are clamped to the stage limits
+        if (activeEdge.isEast()) {
+            width = clamp(startWidth + dx, stage.getMinWidth(), stage.getMaxWidth());
+        } else if (activeEdge.isWest()) {
+            width = clamp(startWidth - dx, stage.getMinWidth(), stage.getMaxWidth());
+            x = startX + startWidth - width;
+        }
+        if (activeEdge.isSouth()) {
+            height = clamp(startHeight + dy, stage.getMinHeight(), stage.getMaxHeight());
+        } else if (activeEdge.isNorth()) {
+            height = clamp(startHeight - dy, stage.getMinHeight(), stage.getMaxHeight());
+            y = startY + startHeight - height;
+        }
+
+        geometry.requestBounds(x, y, width, height);
+    }
+
+    private ResizeEdge hitTest(double x, double y) {
+        if (!borderResizeEnabled || scene == null || stage.isMaximized()) {
+            return ResizeEdge.NONE;
+        }
+        double margin = resizeMargin;
+        double width = scene.getWidth();
+        double height = scene.getHeight();
+
+        // Fast path: pointer is inside the margin band
+        if (x >= margin && x <= width - margin && y >= margin && y <= height - margin) {
+            return ResizeEdge.NONE;
+        }
+        return ResizeEdge.of(y < margin, x > width - margin, y > height - margin, x < margin);
+    }
+
+    private void showCursor(ResizeEdge edge) {
+        if (edge == cursorEdge || scene == null) {
+            return;
+        }
+        if (cursorEdge == ResizeEdge.NONE) {
+            restoreCursor = scene.getCursor();
+        }
+        cursorEdge = edge;
+        scene.setCursor(edge == ResizeEdge.NONE ? restoreCursor : edge.getCursor());
+    }
+
+    private static Object findRole(Node node) {
+        for (Node current = node; current != null; current = current.getParent()) {
+            if (current.hasProperties()) {
+                Object role = current.getProperties().get(ROLE_KEY);
+                if (role != null) {
+                    return role;
+                }
+            }
+            // Buttons inside a drag region keep their own press handling
+            if (current instanceof ButtonBase) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Removes the event filter and listeners from the stage and its scene, together with the
+     * geometry scheduler. A later call to {@link #of(Stage)} installs a new controller.
+     */
+    public void dispose() {
+        stage.sceneProperty().removeListener(sceneListener);
+        if (scene != null && cursorEdge != ResizeEdge.NONE) {
+            scene.setCursor(restoreCursor);
+        }
+        attach(scene, null);
+        state.set(WindowInteractionState.IDLE);
+        dragSession = null;
+        resizeSession = null;
+        geometry.dispose();
+        stage.getProperties().remove(PROPERTY_KEY, this);
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    private void attach(Scene oldScene, Scene newScene) {
+        if (oldScene != null) {
+            oldScene.removeEventFilter(MouseEvent.ANY, this);
+        }
+        scene = newScene;
+        cursorEdge = ResizeEdge.NONE;
+        if (newScene != null) {
+            newScene.addEventFilter(MouseEvent.ANY, this);
+        }
+    }
+}
@@ -1,29 +1,25 @@
 package id.alphareso.meidofx.base.handlers;
 
-import javafx.event.EventHandler;
+import id.alphareso.meidofx.base.enums.ResizeEdge;
+import id.alphareso.meidofx.base.enums.WindowInteractionState;
+import id.alphareso.meidofx.util.GlyphRegistry;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
 import javafx.scene.Cursor;
-import javafx.scene.Group;
 import javafx.scene.Node;
-import javafx.scene.input.MouseEvent;
-import javafx.scene.layout.Background;
-import javafx.scene.layout.BackgroundFill;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
 import javafx.scene.paint.Color;
-import javafx.scene.shape.SVGPath;
 import javafx.stage.Stage;
 
 /**
  * Handler for window resizing functionality, enables resizing the window from the bottom-right corner.
  */
 public class WindowResizeHandler {
-    private static final String RESIZE_ICON_SVG_PATH = "M542.72 884.053333l341.333333-341.333333a32 32 0 0 1 47.445334 42.816l-2.197334 2.432-341.333333 341.333333a32 32 0 0 1-47.466667-42.837333l2.197334-2.432 341.333333-341.333333-341.333333 341.333333z m-437.333333-10.666666l778.666666-778.666667a32 32 0 0 1 47.445334 42.816l-2.197334 2.432-778.666666 778.666667a32 32 0 0 1-47.466667-42.837334l2.197333-2.432 778.666667-778.666666-778.666667 778.666666z";
-
-    private double xOffset = 0;
-    private double yOffset = 0;
     private final Stage stage;
-    private final double resizeMargin = 5.0;
+    private final WindowInteractionController interaction;
     private final Node resizeHandle;
+    private final ReadOnlyBooleanWrapper resizing = new ReadOnlyBooleanWrapper(this, "resizing", false);
 
     /**
      * Creates a new WindowResizeHandler for the specified stage with a custom resize handle.
@@ -33,16 +29,13 @@ public class WindowResizeHandler {
      */
     public WindowResizeHandler(Stage stage, StackPane container) {
         this.stage = stage;
+        this.interaction = WindowInteractionController.of(stage);
+        interaction.stateProperty().addListener((obs, oldState, newState) ->
+                resizing.set(newState == WindowInteractionState.RESIZING));
 
-        // Create the resize handle with SVG path
-        Region resizeIcon = new Region();
-        SVGPath svgPath = new SVGPath();
-        svgPath.setContent(RESIZE_ICON_SVG_PATH);
-        svgPath.setStyle("-fx-fill: #9E9E9E;");
-        resizeIcon.setShape(svgPath);
-        resizeIcon.setBackground(new Background(new BackgroundFill(Color.GREY, null, null)));
-        resizeIcon.setMaxSize(16.0, 16.0);
-        resizeIcon.setPrefSize(16.0, 16.0);
+        // Create the resize handle from the shared grip glyph, parsed once for all stages
+        Region resizeIcon = GlyphRegistry.createGlyph(GlyphRegistry.get(GlyphRegistry.RESIZE_GRIP), 16.0, Color.GREY);
+        resizeIcon.getStyleClass().add("resize-icon");
 
         // Create a container for the resize handle
         StackPane resizePane = new StackPane(resizeIcon);
@@ -53,9 +46,8 @@ public class WindowResizeHandler {
         resizePane.setTranslateX(-3);
         resizePane.setTranslateY(-3);
 
-        // Add resize functionality
-        resizePane.setOnMousePressed(this::handleMousePressed);
-        resizePane.setOnMouseDragged(this::handleMouseDragged);
+        // Resizing is driven by the stage's interaction controller
+        interaction.addResizeGrip(resizePane, ResizeEdge.SOUTH_EAST);
 
         this.resizeHandle = resizePane;
 
@@ -66,42 +58,6 @@ public class WindowResizeHandler {
         StackPane.setAlignment(resizePane, javafx.geometry.Pos.BOTTOM_RIGHT);
     }
 
-    /**
-     * Handle mouse pressed event for resizing.
-     *
-     * @param event The mouse event
-     */
-    private void handleMousePressed(MouseEvent event) {
-        xOffset = stage.getWidth() - event.getSceneX();
-        yOffset = stage.getHeight() - event.getSceneY();
-        event.consume();
-    }
-
-    /**
-     * Handle mouse dragged event for resizing.
-     *
-     * @param event The mouse event
-     */
-    private void handleMouseDragged(MouseEvent event) {
-        if (stage.isMaximized()) {
-            return; // Don't resize when maximized
-        }
-
-        double newWidth = event.getSceneX() + xOffset;
-        double newHeight = event.getSceneY() + yOffset;
-
-        // Set minimum size
-        if (newWidth >= stage.getMinWidth()) {
-            stage.setWidth(newWidth);
-        }
-
-        if (newHeight >= stage.getMinHeight()) {
-            stage.setHeight(newHeight);
-        }
-
-        event.consume();
-    }
-
     /**
      * Gets the resize handle node.
      *
@@ -113,144 +69,42 @@ public class WindowResizeHandler {
 
     /**
      * Enables border resize functionality for the specified region.
-     * This allows resizing from any edge of the window.
+     * This allows resizing from any edge of the window. The border band is measured
+     * against the window edges, so the region is expected to fill its scene.
      *
      * @param region The region to enable border resizing on
      */
     public void enableBorderResize(Region region) {
-        // Store initial cursor
-        final Cursor originalCursor = region.getCursor();
-        final boolean[] resizing = {false};
-        final int[] border = {0}; // 1=N, 2=E, 3=S, 4=W, 5=NE, 6=SE, 7=SW, 8=NW
-
-        EventHandler<MouseEvent> mouseMoveHandler = event -> {
-            if (!resizing[0]) {
-                // Determine which border is being hovered
-                double x = event.getX();
-                double y = event.getY();
-                double width = region.getWidth();
-                double height = region.getHeight();
-
-                boolean north = y < resizeMargin;
-                boolean east = x > width - resizeMargin;
-                boolean south = y > height - resizeMargin;
-                boolean west = x < resizeMargin;
-
-                if (north && east) {
-                    region.setCursor(Cursor.NE_RESIZE);
-                    border[0] = 5;
-                } else if (south && east) {
-                    region.setCursor(Cursor.SE_RESIZE);
-                    border[0] = 6;
-                } else if (south && west) {
-                    region.setCursor(Cursor.SW_RESIZE);
-                    border[0] = 7;
-                } else if (north && west) {
-                    region.setCursor(Cursor.NW_RESIZE);
-                    border[0] = 8;
-                } else if (north) {
-                    region.setCursor(Cursor.N_RESIZE);
-                    border[0] = 1;
-                } else if (east) {
-                    region.setCursor(Cursor.E_RESIZE);
-                    border[0] = 2;
-                } else if (south) {
-                    region.setCursor(Cursor.S_RESIZE);
-                    border[0] = 3;
-                } else if (west) {
-                    region.setCursor(Cursor.W_RESIZE);
-                    border[0] = 4;
-                } else {
-                    region.setCursor(originalCursor);
-                    border[0] = 0;
-                }
-            }
-        };
-
-        EventHandler<MouseEvent> mousePressedHandler = event -> {
-            if (border[0] != 0 && !stage.isMaximized()) {
-                resizing[0] = true;
-                event.consume();
-            }
-        };
-
-        EventHandler<MouseEvent> mouseDraggedHandler = event -> {
-            if (resizing[0] && !stage.isMaximized()) {
-                double deltaX = event.getScreenX() - event.getSceneX();
-                double deltaY = event.getScreenY() - event.getSceneY();
-
-                switch (border[0]) {
-                    case 1: // N
-                        resizeNorth(deltaY);
-                        break;
-                    case 2: // E
-                        resizeEast(event.getSceneX());
-                        break;
-                    case 3: // S
-                        resizeSouth(event.getSceneY());
-                        break;
-                    case 4: // W
-                        resizeWest(deltaX);
-                        break;
-                    case 5: // NE
-                        resizeNorth(deltaY);
-                        resizeEast(event.getSceneX());
-                        break;
-                    case 6: // SE
-                        resizeSouth(event.getSceneY());
-                        resizeEast(event.getSceneX());
-                        break;
-                    case 7: // SW
-                        resizeSouth(event.getSceneY());
-                        resizeWest(deltaX);
-                        break;
-                    case 8: // NW
-                        resizeNorth(deltaY);
-                        resizeWest(deltaX);
-                        break;
-                }
-                event.consume();
-            }
-        };
-
-        EventHandler<MouseEvent> mouseReleasedHandler = event -> {
-            resizing[0] = false;
-            region.setCursor(originalCursor);
-        };
-
-        region.addEventHandler(MouseEvent.MOUSE_MOVED, mouseMoveHandler);
-        region.addEventHandler(MouseEvent.MOUSE_PRESSED, mousePressedHandler);
-        region.addEventHandler(MouseEvent.MOUSE_DRAGGED, mouseDraggedHandler);
-        region.addEventHandler(MouseEvent.MOUSE_RELEASED, mouseReleasedHandler);
-    }
-
-    private void resizeNorth(double deltaY) {
-        double newHeight = stage.getHeight() + (stage.getY() - deltaY);
-        if (newHeight >= stage.getMinHeight()) {
-            stage.setHeight(newHeight);
-            stage.setY(deltaY);
+        if (region.getScene() != null && region.getScene() != stage.getScene()) {
+            throw new IllegalArgumentException("Region does not belong to the resized stage");
         }
+        interaction.setBorderResizeEnabled(true);
     }
 
-    private void resizeEast(double x) {
-        double newWidth = x;
-        if (newWidth >= stage.getMinWidth()) {
-            stage.setWidth(newWidth);
-        }
+    /**
+     * Indicates whether a resize gesture (corner grip or border) is currently in progress.
+     *
+     * @return The read-only resizing property
+     */
+    public ReadOnlyBooleanProperty resizingProperty() {
+        return resizing.getReadOnlyProperty();
     }
 
-    private void resizeSouth(double y) {
-        double newHeight = y;
-        if (newHeight >= stage.getMinHeight()) {
-            stage.setHeight(newHeight);
-        }
+    /**
+     * Checks whether a resize gesture is currently in progress.
+     *
+     * @return true while the user is resizing the stage
+     */
+    public boolean isResizing() {
+        return resizing.get();
     }
 
-    private void resizeWest(double deltaX) {
-        double newWidth = stage.getWidth() + (stage.getX() - deltaX);
-        if (newWidth >= stage.getMinWidth()) {
-            stage.setWidth(newWidth);
-            stage.setX(deltaX);
-        }
+    /**
+     * Gets the geometry scheduler used to apply resize steps.
+     *
+     * @return The geometry scheduler of the resized stage
+     */
+    public WindowGeometryScheduler getGeometryScheduler() {
+        return interaction.getGeometryScheduler();
     }
 }
\ No newline at end of file
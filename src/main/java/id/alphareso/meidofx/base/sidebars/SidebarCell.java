@@ -0,0 +1,37 @@
+package id.alphareso.meidofx.base.sidebars;
+
+import javafx.scene.control.TreeCell;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+
+/**
+ * Recycled row of a {@link SidebarNavigation}. The cell keeps one icon view and only swaps
+ * its image and text when it is reused for another item.
+ */
+final class SidebarCell extends TreeCell<SidebarItem> {
+    private static final double ICON_SIZE = 16;
+
+    private final ImageView iconView = new ImageView();
+
+    SidebarCell() {
+        iconView.setFitWidth(ICON_SIZE);
+        iconView.setFitHeight(ICON_SIZE);
+        iconView.setPreserveRatio(true);
+        getStyleClass().add("sidebar-cell");
+    }
+
+    @Override
+    protected void updateItem(SidebarItem item, boolean empty) {
+        super.updateItem(item, empty);
+        if (empty || item == null) {
+            setText(null);
+            setGraphic(null);
+            iconView.setImage(null);
+        } else {
+            setText(item.getLabel());
+            Image icon = item.getIcon();
+            iconView.setImage(icon);
+            setGraphic(icon != null ? iconView : null);
+        }
+    }
+}
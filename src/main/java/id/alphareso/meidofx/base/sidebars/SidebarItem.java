@@ -0,0 +1,222 @@
+package id.alphareso.meidofx.base.sidebars;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.scene.image.Image;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * A navigation entry of a {@link SidebarNavigation}. Items form a tree; children can be
+ * given directly or produced on demand by a loader the first time the item is expanded.
+ * <p>
+ * Items are plain data: the sidebar only creates nodes for the rows that are visible.
+ */
+public class SidebarItem {
+    private final String label;
+    private Image icon;
+    private Object userData;
+    private SidebarItem parent;
+    private ObservableList<SidebarItem> children;
+    private Supplier<? extends Collection<SidebarItem>> childrenLoader;
+    private TreeObserver treeObserver;
+
+    /**
+     * Receives structural changes anywhere below the item it is attached to.
+     */
+    interface TreeObserver {
+        void itemAdded(SidebarItem item);
+
+        void itemRemoved(SidebarItem item);
+    }
+
+    /**
+     * Creates a navigation item without an icon.
+     *
+     * @param label The label shown in the sidebar
+     */
+    public SidebarItem(String label) {
+        this(label, null);
+    }
+
+    /**
+     * Creates a navigation item.
+     *
+     * @param label The label shown in the sidebar
+     * @param icon The icon shown before the label, or null
+     */
+    public SidebarItem(String label, Image icon) {
+        this.label = Objects.requireNonNull(label, "Label cannot be null");
+        this.icon = icon;
+    }
+
+    /**
+     * Gets the label of this item.
+     *
+     * @return The label
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Gets the icon of this item.
+     *
+     * @return The icon, or null
+     */
+    public Image getIcon() {
+        return icon;
+    }
+
+    /**
+     * Sets the icon of this item. Set the icon before the item is shown; visible rows
+     * are not refreshed automatically.
+     *
+     * @param icon The icon, or null
+     */
+    public void setIcon(Image icon) {
+        this.icon = icon;
+    }
+
+    /**
+     * Gets the user data attached to this item.
+     *
+     * @return The user data, or null
+     */
+    public Object getUserData() {
+        return userData;
+    }
+
+    /**
+     * Attaches arbitrary data to this item, e.g. a content router key.
+     *
+     * @param userData The user data
+     */
+    public void setUserData(Object userData) {
+        this.userData = userData;
+    }
+
+    /**
+     * Gets the parent item.
+     *
+     * @return The parent, or null for a top-level item
+     */
+    public SidebarItem getParent() {
+        return parent;
+    }
+
+    /**
+     * Gets the children of this item, running the children loader first if one is set
+     * and has not run yet.
+     *
+     * @return The modifiable list of children
+     */
+    public ObservableList<SidebarItem> getChildren() {
+        if (children == null) {
+            children = FXCollections.observableArrayList();
+            children.addListener(this::onChildrenChanged);
+        }
+        if (childrenLoader != null) {
+            Supplier<? extends Collection<SidebarItem>> loader = childrenLoader;
+            childrenLoader = null;
+            children.addAll(loader.get());
+        }
+        return children;
+    }
+
+    /**
+     * Sets a loader that produces the children the first time they are needed,
+     * typically when the item is expanded.
+     *
+     * @param loader The children loader
+     */
+    public void setChildrenLoader(Supplier<? extends Collection<SidebarItem>> loader) {
+        this.childrenLoader = loader;
+    }
+
+    /**
+     * Adds children to this item.
+     *
+     * @param items The children to add
+     * @return This item, for chaining
+     */
+    public SidebarItem addChildren(SidebarItem... items) {
+        getChildren().addAll(items);
+        return this;
+    }
+
+    /**
+     * Determines if this item has no children and no pending children loader.
+     *
+     * @return true if the item is a leaf
+     */
+    public boolean isLeaf() {
+        return childrenLoader == null && (children == null || children.isEmpty());
+    }
+
+    /**
+     * Checks whether the children of this item exist, without running the loader.
+     *
+     * @return true if the children are loaded
+     */
+    boolean isLoaded() {
+        return childrenLoader == null;
+    }
+
+    /**
+     * Gets the children list without running the loader.
+     *
+     * @return The children list, or null if none was created
+     */
+    ObservableList<SidebarItem> peekChildren() {
+        return children;
+    }
+
+    void setTreeObserver(TreeObserver treeObserver) {
+        this.treeObserver = treeObserver;
+    }
+
+    private TreeObserver findTreeObserver() {
+        for (SidebarItem item = this; item != null; item = item.parent) {
+            if (item.treeObserver != null) {
+                return item.treeObserver;
+            }
+        }
+        return null;
+    }
+
+    private void onChildrenChanged(ListChangeListener.Change<? extends SidebarItem> change) {
+        TreeObserver observer = findTreeObserver();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                continue;
+            }
+            if (change.wasRemoved()) {
+                for (SidebarItem removed : change.getRemoved()) {
+                    if (removed.parent == this) {
+                        removed.parent = null;
+                    }
+                    if (observer != null) {
+                        observer.itemRemoved(removed);
+                    }
+                }
+            }
+            if (change.wasAdded()) {
+                for (SidebarItem added : change.getAddedSubList()) {
+                    added.parent = this;
+                    if (observer != null) {
+                        observer.itemAdded(added);
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
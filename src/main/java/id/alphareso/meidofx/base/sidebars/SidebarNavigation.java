@@ -1,9 +1,239 @@
 package id.alphareso.meidofx.base.sidebars;
 
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.collections.ObservableList;
+import javafx.scene.control.TextField;
+import javafx.scene.control.TreeItem;
+import javafx.scene.control.TreeView;
+import javafx.scene.layout.Priority;
 import javafx.scene.layout.StackPane;
+import javafx.scene.layout.VBox;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * A vertical navigation sidebar component that provides a customizable menu structure
  * with icon support and nested menu items.
+ * <p>
+ * The menu is virtualized: only the visible rows exist as nodes and they are recycled while
+ * scrolling, and nested items are only turned into tree rows when their parent is expanded.
+ * This keeps the sidebar responsive with very large navigation trees.
+ * <p>
+ * Setting a {@link #filterProperty() filter} shows only the matching items and their
+ * ancestors. Matches come from a {@link SidebarSearchIndex} that is built on first use and
+ * then updated incrementally as items are added or removed. The filtered tree is updated in
+ * place as the filter changes: rows that stay visible keep their tree item and expanded state,
+ * and only the rows that appear or disappear are added or removed.
  */
-public class SidebarNavigation extends StackPane {}
\ No newline at end of file
+public class SidebarNavigation extends StackPane {
+    private static final double DEFAULT_WIDTH = 200;
+    private static final double DEFAULT_CELL_SIZE = 28;
+
+    private final SidebarItem rootItem = new SidebarItem("");
+    private final TreeItem<SidebarItem> treeRoot;
+    private final TreeView<SidebarItem> treeView;
+    private final VBox container;
+    private final StringProperty filter = new SimpleStringProperty(this, "filter", "");
+    private final TreeItem<SidebarItem> filteredRoot;
+    private final Map<SidebarItem, TreeItem<SidebarItem>> filteredItems = new IdentityHashMap<>();
+    private Consumer<SidebarItem> onItemSelected;
+    private SidebarSearchIndex searchIndex;
+    private TextField searchField;
+
+    /**
+     * Creates an empty sidebar with the default width (200px).
+     */
+    public SidebarNavigation() {
+        this.setPrefWidth(DEFAULT_WIDTH);
+        this.setMaxHeight(Double.MAX_VALUE);
+        this.getStyleClass().add("sidebar-navigation");
+
+        treeRoot = new SidebarTreeItem(rootItem);
+        treeRoot.setExpanded(true);
+        filteredRoot = new TreeItem<>(rootItem);
+        filteredRoot.setExpanded(true);
+
+        treeView = new TreeView<>(treeRoot);
+        treeView.setShowRoot(false);
+        // Fixed row height lets the virtual flow skip measuring every cell
+        treeView.setFixedCellSize(DEFAULT_CELL_SIZE);
+        treeView.setCellFactory(view -> new SidebarCell());
+        treeView.getSelectionModel().selectedItemProperty().addListener((obs, oldItem, newItem) -> {
+            if (newItem != null && onItemSelected != null) {
+                onItemSelected.accept(newItem.getValue());
+            }
+        });
+
+        container = new VBox(treeView);
+        VBox.setVgrow(treeView, Priority.ALWAYS);
+        this.getChildren().add(container);
+
+        filter.addListener((obs, oldFilter, newFilter) -> applyFilter(newFilter));
+    }
+
+    /**
+     * The text used to filter the navigation items. An empty filter shows the full tree.
+     *
+     * @return The filter property
+     */
+    public StringProperty filterProperty() {
+        return filter;
+    }
+
+    /**
+     * Sets the filter text.
+     *
+     * @param text The filter text
+     */
+    public void setFilter(String text) {
+        filter.set(text);
+    }
+
+    /**
+     * Gets the filter text.
+     *
+     * @return The filter text
+     */
+    public String getFilter() {
+        return filter.get();
+    }
+
+    /**
+     * Shows or hides a search field above the menu that edits the filter.
+     *
+     * @param visible true to show the search field
+     */
+    public void setSearchFieldVisible(boolean visible) {
+        if (visible && searchField == null) {
+            searchField = new TextField();
+            searchField.setPromptText("Search");
+            searchField.getStyleClass().add("sidebar-search-field");
+            searchField.textProperty().bindBidirectional(filter);
+            container.getChildren().add(0, searchField);
+        }
+        if (searchField != null) {
+            searchField.setVisible(visible);
+            searchField.setManaged(visible);
+        }
+    }
+
+    /**
+     * Gets the search index over the navigation items, building it on first use.
+     *
+     * @return The search index
+     */
+    public SidebarSearchIndex getSearchIndex() {
+        if (searchIndex == null) {
+            searchIndex = new SidebarSearchIndex(rootItem);
+        }
+        return searchIndex;
+    }
+
+    private void applyFilter(String text) {
+        if (text == null || text.isBlank()) {
+            treeView.setRoot(treeRoot);
+            filteredRoot.getChildren().clear();
+            filteredItems.clear();
+            return;
+        }
+
+        // Only the matches and their ancestors get tree items; rows stay virtualized
+        SidebarSearchResult result = getSearchIndex().search(text);
+        Set<SidebarItem> visible = result.getVisibleItems();
+
+        // Lepas baris yang tidak lagi cocok; anak dari baris yang dilepas ikut terlepas
+        List<TreeItem<SidebarItem>> hidden = new ArrayList<>();
+        filteredItems.values().removeIf(treeItem -> {
+            if (visible.contains(treeItem.getValue())) {
+                return false;
+            }
+            hidden.add(treeItem);
+            return true;
+        });
+        for (TreeItem<SidebarItem> treeItem : hidden) {
+            TreeItem<SidebarItem> parent = treeItem.getParent();
+            if (parent == filteredRoot || (parent != null && filteredItems.containsKey(parent.getValue()))) {
+                parent.getChildren().remove(treeItem);
+            }
+        }
+
+        // Visible items come in index order, ancestors first, which is also the sibling order
+        Map<TreeItem<SidebarItem>, Integer> childIndex = new IdentityHashMap<>();
+        for (SidebarItem item : visible) {
+            TreeItem<SidebarItem> parent = filteredItems.getOrDefault(item.getParent(), filteredRoot);
+            int index = childIndex.merge(parent, 1, Integer::sum) - 1;
+            if (!filteredItems.containsKey(item)) {
+                TreeItem<SidebarItem> treeItem = new TreeItem<>(item);
+                treeItem.setExpanded(true);
+                filteredItems.put(item, treeItem);
+                parent.getChildren().add(Math.min(index, parent.getChildren().size()), treeItem);
+            }
+        }
+        if (treeView.getRoot() != filteredRoot) {
+            treeView.setRoot(filteredRoot);
+        }
+    }
+
+    /**
+     * Gets the top-level navigation items.
+     *
+     * @return The modifiable list of top-level items
+     */
+    public ObservableList<SidebarItem> getItems() {
+        return rootItem.getChildren();
+    }
+
+    /**
+     * Adds top-level navigation items.
+     *
+     * @param items The items to add
+     * @return This sidebar, for chaining
+     */
+    public SidebarNavigation addItems(SidebarItem... items) {
+        rootItem.getChildren().addAll(items);
+        return this;
+    }
+
+    /**
+     * Sets the action called when the user selects an item.
+     *
+     * @param onItemSelected The selection action, or null
+     */
+    public void setOnItemSelected(Consumer<SidebarItem> onItemSelected) {
+        this.onItemSelected = onItemSelected;
+    }
+
+    /**
+     * Gets the currently selected item.
+     *
+     * @return The selected item, or null
+     */
+    public SidebarItem getSelectedItem() {
+        TreeItem<SidebarItem> selected = treeView.getSelectionModel().getSelectedItem();
+        return selected != null ? selected.getValue() : null;
+    }
+
+    /**
+     * Sets the fixed height of every row.
+     *
+     * @param cellSize The row height in pixels
+     */
+    public void setCellSize(double cellSize) {
+        treeView.setFixedCellSize(cellSize);
+    }
+
+    /**
+     * Gets the underlying virtualized tree view.
+     *
+     * @return The tree view
+     */
+    public TreeView<SidebarItem> getTreeView() {
+        return treeView;
+    }
+}
@@ -0,0 +1,287 @@
+package id.alphareso.meidofx.base.sidebars;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Incremental label index over the items of a sidebar tree.
+ * <p>
+ * Queries of three or more characters use a trigram index: the posting lists of all query
+ * trigrams are intersected, starting from the shortest one, and the candidates are verified
+ * with a substring check. Shorter queries use a word-prefix index, so "se" finds "Settings"
+ * and "User settings". Items get increasing ids, assigned in tree order to the items indexed
+ * together, so posting lists stay sorted by appending and matches keep the sidebar order;
+ * removed items leave a tombstone until the index is compacted.
+ * <p>
+ * Only items whose children are loaded are indexed; items produced later by a children
+ * loader are indexed when the loader runs.
+ */
+public class SidebarSearchIndex implements SidebarItem.TreeObserver {
+    public static final int DEFAULT_LIMIT = 500;
+
+    private static final long TRIGRAM = 3L << 48;
+    private static final long PREFIX_1 = 1L << 48;
+    private static final long PREFIX_2 = 2L << 48;
+    private static final int MIN_TOMBSTONES_FOR_COMPACTION = 1024;
+
+    private final Map<Long, IntList> postings = new HashMap<>();
+    private final Map<SidebarItem, Integer> ids = new IdentityHashMap<>();
+    private SidebarItem[] items = new SidebarItem[256];
+    private String[] labels = new String[256];
+    private int nextId;
+    private int tombstones;
+
+    /**
+     * Creates an index over all loaded descendants of the given root and keeps it up to date
+     * as items are added or removed below the root.
+     *
+     * @param root The root item; the root itself is not indexed
+     */
+    public SidebarSearchIndex(SidebarItem root) {
+        List<SidebarItem> children = root.peekChildren();
+        if (children != null) {
+            for (SidebarItem child : children) {
+                itemAdded(child);
+            }
+        }
+        root.setTreeObserver(this);
+    }
+
+    /**
+     * Finds items whose label contains the query, ignoring case, up to {@link #DEFAULT_LIMIT}.
+     *
+     * @param query The search text
+     * @return The search result
+     */
+    public SidebarSearchResult search(String query) {
+        return search(query, DEFAULT_LIMIT);
+    }
+
+    /**
+     * Finds items whose label contains the query, ignoring case. Queries shorter than three
+     * characters match the start of words only.
+     *
+     * @param query The search text
+     * @param limit The maximum number of matches
+     * @return The search result
+     */
+    public SidebarSearchResult search(String query, int limit) {
+        String text = query == null ? "" : query.trim().toLowerCase(Locale.ROOT);
+        List<SidebarItem> matches = new ArrayList<>();
+        boolean truncated = false;
+
+        if (text.length() == 1 || text.length() == 2) {
+            IntList list = postings.get(text.length() == 1 ? prefixKey(text.charAt(0)) : prefixKey(text.charAt(0), text.charAt(1)));
+            if (list != null) {
+                for (int i = 0; i < list.size; i++) {
+                    SidebarItem item = items[list.values[i]];
+                    if (item == null) {
+                        continue;
+                    }
+                    if (matches.size() == limit) {
+                        truncated = true;
+                        break;
+                    }
+                    matches.add(item);
+                }
+            }
+        } else if (text.length() >= 3) {
+            truncated = searchTrigrams(text, limit, matches);
+        }
+
+        // Matches plus ancestor paths, ancestors first
+        Set<SidebarItem> visible = new LinkedHashSet<>();
+        Deque<SidebarItem> path = new ArrayDeque<>();
+        for (SidebarItem match : matches) {
+            for (SidebarItem item = match; item != null && !visible.contains(item) && ids.containsKey(item); item = item.getParent()) {
+                path.push(item);
+            }
+            while (!path.isEmpty()) {
+                visible.add(path.pop());
+            }
+        }
+        return new SidebarSearchResult(text, matches, visible, truncated);
+    }
+
+    /**
+     * Gets the number of indexed items.
+     *
+     * @return The item count
+     */
+    public int size() {
+        return ids.size();
+    }
+
+    @Override
+    public void itemAdded(SidebarItem item) {
+        // Index the item and its loaded descendants
+        Deque<SidebarItem> pending = new ArrayDeque<>();
+        pending.push(item);
+        while (!pending.isEmpty()) {
+            SidebarItem next = pending.pop();
+            index(next);
+            List<SidebarItem> children = next.peekChildren();
+            if (children != null) {
+                // Push in reverse so the first child is popped first and ids follow pre-order
+                for (ListIterator<SidebarItem> it = children.listIterator(children.size()); it.hasPrevious(); ) {
+                    pending.push(it.previous());
+                }
+            }
+        }
+    }
+
+    @Override
+    public void itemRemoved(SidebarItem item) {
+        Deque<SidebarItem> pending = new ArrayDeque<>();
+        pending.push(item);
+        while (!pending.isEmpty()) {
+            SidebarItem next = pending.pop();
+            Integer id = ids.remove(next);
+            if (id != null) {
+                items[id] = null;
+                labels[id] = null;
+                tombstones++;
+            }
+            List<SidebarItem> children = next.peekChildren();
+            if (children != null) {
+                for (SidebarItem child : children) {
+                    pending.push(child);
+                }
+            }
+        }
+        if (tombstones >= MIN_TOMBSTONES_FOR_COMPACTION && tombstones > ids.size()) {
+            compact();
+        }
+    }
+
+    private boolean searchTrigrams(String text, int limit, List<SidebarItem> matches) {
+        int count = text.length() - 2;
+        IntList[] lists = new IntList[count];
+        for (int i = 0; i < count; i++) {
+            IntList list = postings.get(trigramKey(text.charAt(i), text.charAt(i + 1), text.charAt(i + 2)));
+            if (list == null) {
+                return false;
+            }
+            lists[i] = list;
+        }
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.size, b.size));
+
+        IntList smallest = lists[0];
+        for (int i = 0; i < smallest.size; i++) {
+            int id = smallest.values[i];
+            if (items[id] == null || !containsAll(lists, id) || !labels[id].contains(text)) {
+                continue;
+            }
+            if (matches.size() == limit) {
+                return true;
+            }
+            matches.add(items[id]);
+        }
+        return false;
+    }
+
+    private static boolean containsAll(IntList[] lists, int id) {
+        for (int i = 1; i < lists.length; i++) {
+            if (Arrays.binarySearch(lists[i].values, 0, lists[i].size, id) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void index(SidebarItem item) {
+        if (ids.containsKey(item)) {
+            return;
+        }
+        int id = nextId++;
+        if (id == items.length) {
+            items = Arrays.copyOf(items, id * 2);
+            labels = Arrays.copyOf(labels, id * 2);
+        }
+        String text = item.getLabel().toLowerCase(Locale.ROOT);
+        items[id] = item;
+        labels[id] = text;
+        ids.put(item, id);
+
+        for (int i = 0; i + 2 < text.length(); i++) {
+            post(trigramKey(text.charAt(i), text.charAt(i + 1), text.charAt(i + 2)), id);
+        }
+        for (int i = 0; i < text.length(); i++) {
+            boolean wordStart = Character.isLetterOrDigit(text.charAt(i))
+                    && (i == 0 || !Character.isLetterOrDigit(text.charAt(i - 1)));
+            if (wordStart) {
+                post(prefixKey(text.charAt(i)), id);
+                if (i + 1 < text.length()) {
+                    post(prefixKey(text.charAt(i), text.charAt(i + 1)), id);
+                }
+            }
+        }
+    }
+
+    private void post(long key, int id) {
+        IntList list = postings.computeIfAbsent(key, k -> new IntList());
+        // Ids only grow, so appending keeps the list sorted; skip repeats within one label
+        if (list.size == 0 || list.values[list.size - 1] != id) {
+            list.add(id);
+        }
+    }
+
+    /**
+     * Rebuilds the index without tombstones.
+     */
+    private void compact() {
+        SidebarItem[] live = new SidebarItem[ids.size()];
+        int count = 0;
+        for (int id = 0; id < nextId; id++) {
+            if (items[id] != null) {
+                live[count++] = items[id];
+            }
+        }
+        postings.clear();
+        ids.clear();
+        items = new SidebarItem[Math.max(256, count * 2)];
+        labels = new String[items.length];
+        nextId = 0;
+        tombstones = 0;
+        for (int i = 0; i < count; i++) {
+            index(live[i]);
+        }
+    }
+
+    private static long trigramKey(char a, char b, char c) {
+        return TRIGRAM | ((long) a << 32) | ((long) b << 16) | c;
+    }
+
+    private static long prefixKey(char a) {
+        return PREFIX_1 | a;
+    }
+
+    private static long prefixKey(char a, char b) {
+        return PREFIX_2 | ((long) a << 16) | b;
+    }
+
+    /**
+     * Growable, sorted list of item ids.
+     */
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+}
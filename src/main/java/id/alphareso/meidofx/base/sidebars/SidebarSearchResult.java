@@ -0,0 +1,59 @@
+package id.alphareso.meidofx.base.sidebars;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Result of a {@link SidebarSearchIndex} query: the matching items and every item that must
+ * be shown to reach them (the matches plus their ancestors).
+ */
+public class SidebarSearchResult {
+    private final String query;
+    private final List<SidebarItem> matches;
+    private final Set<SidebarItem> visibleItems;
+    private final boolean truncated;
+
+    SidebarSearchResult(String query, List<SidebarItem> matches, Set<SidebarItem> visibleItems, boolean truncated) {
+        this.query = query;
+        this.matches = Collections.unmodifiableList(matches);
+        this.visibleItems = Collections.unmodifiableSet(visibleItems);
+        this.truncated = truncated;
+    }
+
+    /**
+     * Gets the normalized query.
+     *
+     * @return The query
+     */
+    public String getQuery() {
+        return query;
+    }
+
+    /**
+     * Gets the matching items, in the order they were added to the sidebar.
+     *
+     * @return The matches
+     */
+    public List<SidebarItem> getMatches() {
+        return matches;
+    }
+
+    /**
+     * Gets the matches and all of their ancestors, ancestors before descendants.
+     *
+     * @return The items to show for this result
+     */
+    public Set<SidebarItem> getVisibleItems() {
+        return visibleItems;
+    }
+
+    /**
+     * Checks whether more items matched than the requested limit.
+     *
+     * @return true if the matches were cut off at the limit
+     */
+    public boolean isTruncated() {
+        return truncated;
+    }
+}
@@ -0,0 +1,63 @@
+package id.alphareso.meidofx.base.sidebars;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.WeakListChangeListener;
+import javafx.scene.control.TreeItem;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tree item adapter that mirrors a {@link SidebarItem}. Child tree items are created the first
+ * time the tree asks for them (i.e. when the item is expanded) and are kept in sync with the
+ * item's children afterwards.
+ */
+final class SidebarTreeItem extends TreeItem<SidebarItem> {
+    private final ListChangeListener<SidebarItem> childrenListener = this::onChildrenChanged;
+    private boolean populated;
+
+    SidebarTreeItem(SidebarItem item) {
+        super(item);
+    }
+
+    @Override
+    public boolean isLeaf() {
+        return getValue().isLeaf();
+    }
+
+    @Override
+    public ObservableList<TreeItem<SidebarItem>> getChildren() {
+        if (!populated) {
+            populated = true;
+            ObservableList<SidebarItem> items = getValue().getChildren();
+            super.getChildren().setAll(wrap(items));
+            items.addListener(new WeakListChangeListener<>(childrenListener));
+        }
+        return super.getChildren();
+    }
+
+    private void onChildrenChanged(ListChangeListener.Change<? extends SidebarItem> change) {
+        ObservableList<TreeItem<SidebarItem>> treeChildren = super.getChildren();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                treeChildren.setAll(wrap(change.getList()));
+                continue;
+            }
+            if (change.wasRemoved()) {
+                treeChildren.remove(change.getFrom(), change.getFrom() + change.getRemovedSize());
+            }
+            if (change.wasAdded()) {
+                treeChildren.addAll(change.getFrom(), wrap(change.getAddedSubList()));
+            }
+        }
+    }
+
+    private static List<TreeItem<SidebarItem>> wrap(List<? extends SidebarItem> items) {
+        List<TreeItem<SidebarItem>> treeItems = new ArrayList<>(items.size());
+        for (SidebarItem item : items) {
+            treeItems.add(new SidebarTreeItem(item));
+        }
+        return treeItems;
+    }
+}
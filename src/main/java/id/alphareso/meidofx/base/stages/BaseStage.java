@@ -1,25 +1,52 @@
 package id.alphareso.meidofx.base.stages;
 
+import id.alphareso.meidofx.base.diagnostics.PerformanceHud;
+import id.alphareso.meidofx.base.diagnostics.StartupTimeline;
+import id.alphareso.meidofx.base.diagnostics.WindowConstructionEvent;
+import id.alphareso.meidofx.base.handlers.WindowInteractionController;
+import id.alphareso.meidofx.base.themes.ThemeEngine;
+import id.alphareso.meidofx.util.PaintCache;
 import javafx.geometry.Insets;
 import javafx.scene.Scene;
-import javafx.scene.layout.Background;
-import javafx.scene.layout.BackgroundFill;
-import javafx.scene.layout.CornerRadii;
+import javafx.scene.input.KeyCombination;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
 import javafx.scene.paint.Color;
 import javafx.stage.Stage;
+import javafx.stage.WindowEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * Base stage class for all application windows, providing common functionality.
+ * <p>
+ * Every base stage is registered with the {@link WindowManager}. A stage that is no longer
+ * needed should be {@link #dispose() disposed}, which releases its content, handlers and
+ * bindings so that stray references to the stage or its nodes do not keep the whole scene
+ * graph alive.
  */
 public class BaseStage extends Stage {
-    private static final Color DEFAULT_BACKGROUND_COLOR = Color.rgb(240, 240, 240);
+    private static final Logger LOGGER = Logger.getLogger(BaseStage.class.getName());
+
+    static final Color DEFAULT_BACKGROUND_COLOR = Color.rgb(240, 240, 240);
 
     protected final StackPane root;
     protected final Scene scene;
     protected final double minWidth;
     protected final double minHeight;
+    protected final WindowInteractionController interaction;
+
+    private final List<Runnable> disposeHooks = new ArrayList<>();
+    private boolean disposed;
+    private boolean disposeOnClose;
+    private PerformanceHud performanceHud;
+    private KeyCombination performanceHudHotkey = PerformanceHud.DEFAULT_HOTKEY;
+    private WindowConstructionEvent constructionEvent;
 
     /**
      * Creates a new base stage with default minimum dimensions.
@@ -35,16 +62,16 @@ public class BaseStage extends Stage {
      * @param minHeight The minimum height of the stage
      */
     public BaseStage(double minWidth, double minHeight) {
+        WindowConstructionEvent construction = new WindowConstructionEvent();
+        construction.begin();
+        long phaseStart = System.nanoTime();
+
         this.minWidth = minWidth;
         this.minHeight = minHeight;
 
         // Initialize the root container
         root = new StackPane();
-        root.setBackground(new Background(new BackgroundFill(
-                DEFAULT_BACKGROUND_COLOR,
-                CornerRadii.EMPTY,
-                Insets.EMPTY
-        )));
+        root.setBackground(PaintCache.background(DEFAULT_BACKGROUND_COLOR));
 
         // Create scene
         scene = new Scene(root, minWidth, minHeight);
@@ -53,9 +80,57 @@ public class BaseStage extends Stage {
         this.setScene(scene);
         this.setMinWidth(minWidth);
         this.setMinHeight(minHeight);
+        long phaseEnd = System.nanoTime();
+        construction.sceneSetup = phaseEnd - phaseStart;
+        phaseStart = phaseEnd;
 
-        // Add CSS stylesheets if needed
-        //scene.getStylesheets().add(getClass().getResource("styles/base-stage.css").toExternalForm());
+        // One event filter on the scene handles drag, resize and maximize interaction
+        interaction = WindowInteractionController.of(this);
+        phaseEnd = System.nanoTime();
+        construction.interactionSetup = phaseEnd - phaseStart;
+        phaseStart = phaseEnd;
+
+        // Stylesheet dasar dan tema aktif dipasang oleh ThemeEngine
+        ThemeEngine.getInstance().install(scene);
+        construction.themeSetup = System.nanoTime() - phaseStart;
+
+        WindowManager.getInstance().register(this);
+        scene.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (performanceHudHotkey != null && performanceHudHotkey.match(event)) {
+                setPerformanceHudVisible(!isPerformanceHudVisible());
+                event.consume();
+            }
+        });
+        addEventHandler(WindowEvent.WINDOW_HIDDEN, event -> {
+            if (disposeOnClose) {
+                dispose();
+            }
+        });
+
+        // Event JFR hanya disimpan jika recording aktif; RoundStage menutupnya setelah chrome dibuat
+        if (construction.isEnabled()) {
+            construction.stageClass = getClass().getName();
+            constructionEvent = construction;
+        }
+        if (!(this instanceof RoundStage)) {
+            finishConstruction(0);
+        }
+    }
+
+    /**
+     * Reports the stage to the {@link StartupTimeline} and commits its construction event once
+     * the chrome has been built. Called at the end of the most-derived MeidoFX constructor, so
+     * the first stage mark includes the chrome of a {@link RoundStage}.
+     *
+     * @param chromeNanos Time spent creating the chrome regions
+     */
+    void finishConstruction(long chromeNanos) {
+        StartupTimeline.getInstance().stageCreated(this);
+        if (constructionEvent != null) {
+            constructionEvent.chromeSetup = chromeNanos;
+            constructionEvent.commit();
+            constructionEvent = null;
+        }
     }
 
     /**
@@ -67,17 +142,26 @@ public class BaseStage extends Stage {
         return root;
     }
 
+    /**
+     * Gets the controller that handles pointer interaction (drag, resize, maximize) for this stage.
+     *
+     * @return The interaction controller
+     */
+    public WindowInteractionController getInteractionController() {
+        return interaction;
+    }
+
     /**
      * Sets the background color of the root container.
      *
      * @param color The background color
      */
     public void setBackgroundColor(Color color) {
-        root.setBackground(new Background(new BackgroundFill(
+        root.setBackground(PaintCache.background(
                 color,
                 root.getBackground().getFills().get(0).getRadii(),
                 Insets.EMPTY
-        )));
+        ));
     }
 
     /**
@@ -87,6 +171,146 @@ public class BaseStage extends Stage {
      */
     public void setContent(Region content) {
         root.getChildren().setAll(content);
+        if (isPerformanceHudVisible()) {
+            root.getChildren().add(performanceHud.getNode());
+        }
     }
-}
 
+    /**
+     * Shows or hides the performance HUD of this stage. The HUD is created the first time it
+     * is shown and costs nothing while hidden.
+     *
+     * @param visible true to show the HUD
+     */
+    public void setPerformanceHudVisible(boolean visible) {
+        if (visible && !disposed) {
+            getPerformanceHud().show();
+        } else if (performanceHud != null) {
+            performanceHud.hide();
+        }
+    }
+
+    /**
+     * Checks whether the performance HUD is showing.
+     *
+     * @return true if the HUD is showing
+     */
+    public boolean isPerformanceHudVisible() {
+        return performanceHud != null && performanceHud.isShowing();
+    }
+
+    /**
+     * Gets the performance HUD of this stage, creating it hidden on first use.
+     *
+     * @return The performance HUD
+     */
+    public PerformanceHud getPerformanceHud() {
+        if (performanceHud == null) {
+            performanceHud = new PerformanceHud(this);
+        }
+        return performanceHud;
+    }
+
+    /**
+     * Sets the key combination that toggles the performance HUD.
+     *
+     * @param hotkey The key combination, or null to disable the hotkey
+     */
+    public void setPerformanceHudHotkey(KeyCombination hotkey) {
+        this.performanceHudHotkey = hotkey;
+    }
+
+    /**
+     * Gets the key combination that toggles the performance HUD.
+     *
+     * @return The key combination, or null if the hotkey is disabled
+     */
+    public KeyCombination getPerformanceHudHotkey() {
+        return performanceHudHotkey;
+    }
+
+    /**
+     * Registers an action that releases resources when the stage is disposed. Hooks run in
+     * reverse order of registration.
+     *
+     * @param hook The dispose action
+     */
+    public void addDisposeHook(Runnable hook) {
+        Objects.requireNonNull(hook, "Hook cannot be null");
+        if (disposed) {
+            hook.run();
+        } else {
+            disposeHooks.add(hook);
+        }
+    }
+
+    /**
+     * Removes a previously registered dispose action.
+     *
+     * @param hook The dispose action
+     */
+    public void removeDisposeHook(Runnable hook) {
+        disposeHooks.remove(hook);
+    }
+
+    /**
+     * Sets whether the stage is disposed automatically when it is hidden (e.g. closed by the user).
+     *
+     * @param disposeOnClose true to dispose on close
+     */
+    public void setDisposeOnClose(boolean disposeOnClose) {
+        this.disposeOnClose = disposeOnClose;
+    }
+
+    /**
+     * Checks whether the stage is disposed automatically when it is hidden.
+     *
+     * @return true if the stage is disposed on close
+     */
+    public boolean isDisposeOnClose() {
+        return disposeOnClose;
+    }
+
+    /**
+     * Hides the stage and releases its content, dispose hooks, theme and interaction handlers.
+     * A disposed stage must not be shown again. Calling this more than once has no effect.
+     */
+    public void dispose() {
+        if (disposed) {
+            return;
+        }
+        disposed = true;
+        if (isShowing()) {
+            hide();
+        }
+
+        for (int i = disposeHooks.size() - 1; i >= 0; i--) {
+            try {
+                disposeHooks.get(i).run();
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.WARNING, "Dispose hook failed for stage: " + getTitle(), e);
+            }
+        }
+        disposeHooks.clear();
+
+        if (performanceHud != null) {
+            performanceHud.hide();
+        }
+        ThemeEngine.getInstance().uninstall(scene);
+        interaction.dispose();
+        // Lepas seluruh konten agar node yang masih direferensikan tidak menahan scene
+        root.getChildren().clear();
+        getIcons().clear();
+
+        WindowManager.getInstance().disposed(this);
+    }
+
+    /**
+     * Checks whether the stage has been disposed.
+     *
+     * @return true if {@link #dispose()} has been called
+     */
+    public boolean isDisposed() {
+        return disposed;
+    }
+}
@@ -0,0 +1,286 @@
+package id.alphareso.meidofx.base.stages;
+
+import id.alphareso.meidofx.base.diagnostics.ContentSwapEvent;
+import javafx.beans.property.ReadOnlyStringProperty;
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.scene.Node;
+import javafx.scene.layout.StackPane;
+import javafx.stage.Stage;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Switches the content of a {@link RoundStage} between views registered by key.
+ * <p>
+ * Each view is built once by its supplier and then kept in the content area; switching pages
+ * only toggles the visibility of cached views, so CSS and layout of a revisited page are not
+ * redone from scratch. Hidden views are also taken out of layout. The number of cached views
+ * is bounded: the least recently shown views are evicted first, except for pinned views and
+ * the current one.
+ */
+public class ContentRouter {
+    public static final int DEFAULT_MAX_CACHED_VIEWS = 8;
+
+    private final StackPane host;
+    private final Map<String, Supplier<? extends Node>> suppliers = new HashMap<>();
+    private final LinkedHashMap<String, Node> cache = new LinkedHashMap<>(16, 0.75f, true);
+    private final Set<String> pinned = new HashSet<>();
+    private final ReadOnlyStringWrapper currentKey = new ReadOnlyStringWrapper(this, "currentKey");
+    // Disimpan terpisah agar menyembunyikan view lama tidak mengubah urutan LRU
+    private Node currentView;
+
+    private int maxCachedViews = DEFAULT_MAX_CACHED_VIEWS;
+    private long buildCount;
+    private long hitCount;
+    private long evictionCount;
+
+    ContentRouter(StackPane host) {
+        this.host = host;
+    }
+
+    /**
+     * Registers a view supplier. The supplier is called the first time the view is shown,
+     * and again only after the view has been evicted.
+     *
+     * @param key The view key
+     * @param supplier The supplier building the view
+     */
+    public void register(String key, Supplier<? extends Node> supplier) {
+        Objects.requireNonNull(key, "Key cannot be null");
+        Objects.requireNonNull(supplier, "Supplier cannot be null");
+        suppliers.put(key, supplier);
+    }
+
+    /**
+     * Removes a view registration together with its cached view.
+     *
+     * @param key The view key
+     */
+    public void unregister(String key) {
+        suppliers.remove(key);
+        pinned.remove(key);
+        evict(key);
+    }
+
+    /**
+     * Shows the view registered under the given key, building it if it is not cached.
+     *
+     * @param key The view key
+     * @return The shown view
+     */
+    public Node navigate(String key) {
+        ContentSwapEvent event = new ContentSwapEvent();
+        event.begin();
+        Node view = cache.get(key);
+        boolean built = view == null;
+        if (built) {
+            Supplier<? extends Node> supplier = suppliers.get(key);
+            if (supplier == null) {
+                throw new IllegalArgumentException("No view registered for key: " + key);
+            }
+            view = Objects.requireNonNull(supplier.get(), "View supplier returned null for key: " + key);
+            setShown(view, false);
+            cache.put(key, view);
+            host.getChildren().add(view);
+            buildCount++;
+        } else {
+            hitCount++;
+        }
+
+        String previousKey = currentKey.get();
+        if (!key.equals(previousKey)) {
+            if (currentView != null) {
+                setShown(currentView, false);
+            }
+            setShown(view, true);
+            currentView = view;
+            currentKey.set(key);
+
+            if (event.shouldCommit()) {
+                event.windowTitle = host.getScene() != null && host.getScene().getWindow() instanceof Stage stage
+                        ? stage.getTitle() : null;
+                event.contentClass = view.getClass().getName();
+                event.viewKey = key;
+                event.viewBuilt = built;
+                event.commit();
+            }
+        }
+
+        evictOverflow();
+        return view;
+    }
+
+    /**
+     * Pins a view so that it is never evicted from the cache.
+     *
+     * @param key The view key
+     */
+    public void pin(String key) {
+        pinned.add(key);
+    }
+
+    /**
+     * Unpins a view, making it eligible for eviction again.
+     *
+     * @param key The view key
+     */
+    public void unpin(String key) {
+        if (pinned.remove(key)) {
+            evictOverflow();
+        }
+    }
+
+    /**
+     * Checks whether a view is pinned.
+     *
+     * @param key The view key
+     * @return true if the view is pinned
+     */
+    public boolean isPinned(String key) {
+        return pinned.contains(key);
+    }
+
+    /**
+     * Checks whether a built view is cached for the key.
+     *
+     * @param key The view key
+     * @return true if the view is cached
+     */
+    public boolean isCached(String key) {
+        return cache.containsKey(key);
+    }
+
+    /**
+     * Removes a cached view. If it is the current view, the content area becomes empty.
+     *
+     * @param key The view key
+     */
+    public void evict(String key) {
+        Node view = cache.remove(key);
+        if (view != null) {
+            host.getChildren().remove(view);
+            evictionCount++;
+            if (key.equals(currentKey.get())) {
+                currentView = null;
+                currentKey.set(null);
+            }
+        }
+    }
+
+    /**
+     * Removes all cached views. Registrations and pins are kept.
+     */
+    public void clearCache() {
+        host.getChildren().removeAll(cache.values());
+        evictionCount += cache.size();
+        cache.clear();
+        currentView = null;
+        currentKey.set(null);
+    }
+
+    /**
+     * Removes all registrations, pins and cached views, leaving the content area empty.
+     */
+    public void clear() {
+        clearCache();
+        suppliers.clear();
+        pinned.clear();
+    }
+
+    /**
+     * Sets the maximum number of cached views.
+     *
+     * @param maxCachedViews The maximum, at least 1
+     */
+    public void setMaxCachedViews(int maxCachedViews) {
+        if (maxCachedViews < 1) {
+            throw new IllegalArgumentException("maxCachedViews must be at least 1");
+        }
+        this.maxCachedViews = maxCachedViews;
+        evictOverflow();
+    }
+
+    /**
+     * Gets the maximum number of cached views.
+     *
+     * @return The maximum
+     */
+    public int getMaxCachedViews() {
+        return maxCachedViews;
+    }
+
+    /**
+     * The key of the view currently shown, or null.
+     *
+     * @return The read-only current key property
+     */
+    public ReadOnlyStringProperty currentKeyProperty() {
+        return currentKey.getReadOnlyProperty();
+    }
+
+    /**
+     * Gets the key of the view currently shown.
+     *
+     * @return The current key, or null
+     */
+    public String getCurrentKey() {
+        return currentKey.get();
+    }
+
+    /**
+     * Gets the number of times a view supplier was called.
+     *
+     * @return The build count
+     */
+    public long getBuildCount() {
+        return buildCount;
+    }
+
+    /**
+     * Gets the number of navigations served from the cache.
+     *
+     * @return The hit count
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Gets the number of views evicted from the cache.
+     *
+     * @return The eviction count
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    private void evictOverflow() {
+        if (cache.size() <= maxCachedViews) {
+            return;
+        }
+        // Iteration order is least recently shown first
+        String current = currentKey.get();
+        for (Iterator<Map.Entry<String, Node>> it = cache.entrySet().iterator();
+             it.hasNext() && cache.size() > maxCachedViews; ) {
+            Map.Entry<String, Node> entry = it.next();
+            if (pinned.contains(entry.getKey()) || entry.getKey().equals(current)) {
+                continue;
+            }
+            host.getChildren().remove(entry.getValue());
+            it.remove();
+            evictionCount++;
+        }
+    }
+
+    private static void setShown(Node view, boolean shown) {
+        view.setVisible(shown);
+        view.setManaged(shown);
+    }
+}
@@ -0,0 +1,132 @@
+package id.alphareso.meidofx.base.stages;
+
+import javafx.animation.PauseTransition;
+import javafx.beans.InvalidationListener;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.StackPane;
+import javafx.scene.paint.Color;
+import javafx.scene.transform.Transform;
+import javafx.stage.Stage;
+import javafx.util.Duration;
+
+import java.util.Objects;
+
+/**
+ * Stretches a snapshot of the content area while the stage is being resized, so that the
+ * content tree is only laid out again once the gesture ends or the pointer rests.
+ * <p>
+ * The content area stays attached to the scene while frozen; it is only hidden and taken out
+ * of layout, which avoids re-applying CSS to the whole content tree when it comes back.
+ */
+final class LiveResizeController {
+    static final Duration DEFAULT_IDLE_THRESHOLD = Duration.millis(300);
+
+    private final Stage stage;
+    private final StackPane contentArea;
+    private final StackPane host = new StackPane();
+    private final ImageView snapshotView = new ImageView();
+    private final SnapshotParameters snapshotParameters = new SnapshotParameters();
+    private final PauseTransition idleTimer = new PauseTransition(DEFAULT_IDLE_THRESHOLD);
+    private final InvalidationListener sizeListener = observable -> onResizeStep();
+
+    private boolean resizing;
+    private boolean frozen;
+
+    LiveResizeController(Stage stage, StackPane contentArea) {
+        this.stage = stage;
+        this.contentArea = contentArea;
+
+        snapshotParameters.setFill(Color.TRANSPARENT);
+        snapshotView.setManaged(false);
+        snapshotView.setVisible(false);
+        snapshotView.setPreserveRatio(false);
+        snapshotView.fitWidthProperty().bind(host.widthProperty());
+        snapshotView.fitHeightProperty().bind(host.heightProperty());
+
+        idleTimer.setOnFinished(event -> thaw());
+    }
+
+    /**
+     * Places the content area inside the snapshot host and puts the host in the layout center.
+     */
+    void attach(BorderPane layout) {
+        host.getChildren().setAll(contentArea, snapshotView);
+        layout.setCenter(host);
+    }
+
+    /**
+     * Restores the content area as the layout center.
+     */
+    void detach(BorderPane layout) {
+        resizeFinished();
+        layout.setCenter(contentArea);
+        host.getChildren().clear();
+    }
+
+    void setIdleThreshold(Duration threshold) {
+        Objects.requireNonNull(threshold, "Idle threshold cannot be null");
+        idleTimer.setDuration(threshold);
+    }
+
+    Duration getIdleThreshold() {
+        return idleTimer.getDuration();
+    }
+
+    void resizeStarted() {
+        if (resizing) {
+            return;
+        }
+        resizing = true;
+        stage.widthProperty().addListener(sizeListener);
+        stage.heightProperty().addListener(sizeListener);
+        freeze();
+    }
+
+    void resizeFinished() {
+        if (!resizing) {
+            return;
+        }
+        resizing = false;
+        stage.widthProperty().removeListener(sizeListener);
+        stage.heightProperty().removeListener(sizeListener);
+        idleTimer.stop();
+        thaw();
+    }
+
+    private void onResizeStep() {
+        // Setelah layout antara (idle), ambil snapshot baru saat resize berlanjut
+        if (!frozen) {
+            freeze();
+        }
+        idleTimer.playFromStart();
+    }
+
+    private void freeze() {
+        if (frozen || contentArea.getWidth() <= 0 || contentArea.getHeight() <= 0) {
+            return;
+        }
+        // Render at the output scale so the stretched snapshot stays sharp on HiDPI screens
+        snapshotParameters.setTransform(Transform.scale(stage.getOutputScaleX(), stage.getOutputScaleY()));
+        snapshotView.setImage(contentArea.snapshot(snapshotParameters, null));
+        snapshotView.setVisible(true);
+
+        contentArea.setVisible(false);
+        contentArea.setManaged(false);
+        frozen = true;
+    }
+
+    private void thaw() {
+        if (!frozen) {
+            return;
+        }
+        frozen = false;
+
+        // One real layout pass at the current size
+        contentArea.setManaged(true);
+        contentArea.setVisible(true);
+        snapshotView.setVisible(false);
+        snapshotView.setImage(null);
+    }
+}
@@ -0,0 +1,347 @@
+package id.alphareso.meidofx.base.stages;
+
+import id.alphareso.meidofx.base.diagnostics.RenderQualityEvent;
+import id.alphareso.meidofx.base.enums.RenderQuality;
+import id.alphareso.meidofx.base.enums.RenderStrategy;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.scene.CacheHint;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.effect.Effect;
+import javafx.util.Duration;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Lowers the rendering quality of a {@link RoundStage} while its frames take longer than the
+ * frame budget, and raises it again when they recover.
+ * <p>
+ * The governor measures the interval between pulses of the stage's scene and averages it over
+ * windows of {@value #SAMPLE_WINDOW} frames. Intervals longer than {@value #IDLE_GAP_MILLIS} ms
+ * are idle time between frames rather than slow frames and are ignored. The interval includes
+ * waiting for the next pulse, so a window that keeps up has a mean frame time equal to the
+ * budget; a window counts as over budget when its mean passes {@value #DOWNGRADE_RATIO} times
+ * the budget. After {@value #DOWNGRADE_WINDOWS} windows in a row over budget, quality is
+ * stepped down one {@link RenderQuality} level: effects are removed, then the window layout is
+ * cached, then the rounded corners and transparent scene fill of the chrome are replaced by
+ * square ones, and finally content layout is deferred during live resize. Each step keeps the
+ * savings of the previous ones.
+ * <p>
+ * The square chrome level only saves painting the rounded background and border. A shown
+ * window cannot change its style, so a transparent window is still composited with per-pixel
+ * alpha; create the stage with {@link RenderStrategy#OPAQUE} or {@link RenderStrategy#AUTO}
+ * to avoid that cost.
+ * <p>
+ * Quality is stepped back up only when the mean frame time stays below
+ * {@value #RECOVERY_RATIO} times the budget for several windows in a row. If frames get slow again
+ * soon after a step up, the number of windows needed for the next step up is doubled, so the
+ * quality does not flap between two levels.
+ * <p>
+ * Every change is reported through {@link #qualityProperty()}, logged and emitted as a
+ * {@link RenderQualityEvent} for flight recordings. All methods must be called on the FX
+ * thread.
+ */
+public class RenderQualityGovernor {
+    private static final Logger LOGGER = Logger.getLogger(RenderQualityGovernor.class.getName());
+
+    /**
+     * Default frame budget, one frame at 60 frames per second.
+     */
+    public static final Duration DEFAULT_FRAME_BUDGET = Duration.millis(1000.0 / 60);
+
+    /**
+     * Number of frames averaged into one measurement window.
+     */
+    public static final int SAMPLE_WINDOW = 30;
+
+    /**
+     * Pulse interval above which the window is considered idle rather than slow.
+     */
+    public static final long IDLE_GAP_MILLIS = 250;
+
+    /**
+     * Number of consecutive windows over budget before quality is stepped down.
+     */
+    public static final int DOWNGRADE_WINDOWS = 2;
+
+    /**
+     * Number of consecutive recovered windows before quality is first stepped up.
+     */
+    public static final int UPGRADE_WINDOWS = 4;
+
+    /**
+     * Multiple of the frame budget the mean frame time must pass to count as over budget.
+     */
+    public static final double DOWNGRADE_RATIO = 1.5;
+
+    /**
+     * Multiple of the frame budget the mean frame time must stay below to step quality up.
+     */
+    public static final double RECOVERY_RATIO = 1.15;
+
+    private static final int MAX_UPGRADE_WINDOWS = 64;
+    private static final long IDLE_GAP_NANOS = IDLE_GAP_MILLIS * 1_000_000L;
+
+    private final RoundStage stage;
+    private final Scene scene;
+    private final ReadOnlyObjectWrapper<RenderQuality> quality =
+            new ReadOnlyObjectWrapper<>(this, "quality", RenderQuality.FULL);
+    private final Runnable pulseListener = this::pulseStarted;
+
+    // Nilai asli yang dipulihkan saat kualitas dinaikkan kembali
+    private final Map<Node, Effect> removedEffects = new IdentityHashMap<>();
+    private final Map<Node, CacheState> cachedNodes = new IdentityHashMap<>();
+    private RenderStrategy previousStrategy;
+    private boolean previousLiveResize;
+
+    private Duration frameBudget = DEFAULT_FRAME_BUDGET;
+    private boolean running;
+    private long lastPulse;
+    private int frames;
+    private long frameNanos;
+    private int overBudgetWindows;
+    private int recoveredWindows;
+    private int upgradeWindows = UPGRADE_WINDOWS;
+    private int windowsSinceUpgrade = -1;
+
+    /**
+     * Creates a governor for a stage. The governor stops watching when the stage is disposed.
+     *
+     * @param stage The governed stage
+     */
+    public RenderQualityGovernor(RoundStage stage) {
+        this.stage = Objects.requireNonNull(stage, "Stage cannot be null");
+        this.scene = stage.getScene();
+        stage.addDisposeHook(this::detach);
+    }
+
+    /**
+     * Starts watching frame times.
+     */
+    public void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        lastPulse = 0;
+        resetWindow();
+        scene.addPreLayoutPulseListener(pulseListener);
+    }
+
+    /**
+     * Stops watching frame times and restores full quality.
+     */
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        detach();
+        while (quality.get() != RenderQuality.FULL) {
+            stepUp(0);
+        }
+        upgradeWindows = UPGRADE_WINDOWS;
+        windowsSinceUpgrade = -1;
+    }
+
+    /**
+     * Checks whether the governor is watching frame times.
+     *
+     * @return true while running
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Sets the time one frame should take, normally the pulse period.
+     *
+     * @param budget The frame budget
+     */
+    public void setFrameBudget(Duration budget) {
+        Objects.requireNonNull(budget, "Frame budget cannot be null");
+        if (budget.lessThanOrEqualTo(Duration.ZERO)) {
+            throw new IllegalArgumentException("Frame budget must be positive: " + budget);
+        }
+        this.frameBudget = budget;
+    }
+
+    /**
+     * Gets the time one frame should take.
+     *
+     * @return The frame budget
+     */
+    public Duration getFrameBudget() {
+        return frameBudget;
+    }
+
+    /**
+     * The current rendering quality of the stage.
+     *
+     * @return The read-only quality property
+     */
+    public ReadOnlyObjectProperty<RenderQuality> qualityProperty() {
+        return quality.getReadOnlyProperty();
+    }
+
+    /**
+     * Gets the current rendering quality of the stage.
+     *
+     * @return The quality level
+     */
+    public RenderQuality getQuality() {
+        return quality.get();
+    }
+
+    private void pulseStarted() {
+        long now = System.nanoTime();
+        long interval = now - lastPulse;
+        boolean sample = lastPulse != 0 && interval <= IDLE_GAP_NANOS;
+        lastPulse = now;
+        if (!sample) {
+            return;
+        }
+        frames++;
+        frameNanos += interval;
+        if (frames < SAMPLE_WINDOW) {
+            return;
+        }
+
+        double meanMillis = frameNanos / 1_000_000.0 / frames;
+        resetWindow();
+        if (windowsSinceUpgrade >= 0) {
+            windowsSinceUpgrade++;
+        }
+
+        double budgetMillis = frameBudget.toMillis();
+        if (meanMillis > budgetMillis * DOWNGRADE_RATIO) {
+            recoveredWindows = 0;
+            if (++overBudgetWindows >= DOWNGRADE_WINDOWS && quality.get() != RenderQuality.DEFERRED_LAYOUT) {
+                // Turun lagi tak lama setelah naik: tunggu lebih lama sebelum naik berikutnya
+                if (windowsSinceUpgrade >= 0 && windowsSinceUpgrade <= upgradeWindows) {
+                    upgradeWindows = Math.min(MAX_UPGRADE_WINDOWS, upgradeWindows * 2);
+                }
+                windowsSinceUpgrade = -1;
+                overBudgetWindows = 0;
+                stepDown(meanMillis);
+            }
+        } else if (meanMillis < budgetMillis * RECOVERY_RATIO) {
+            overBudgetWindows = 0;
+            if (++recoveredWindows >= upgradeWindows && quality.get() != RenderQuality.FULL) {
+                recoveredWindows = 0;
+                windowsSinceUpgrade = 0;
+                stepUp(meanMillis);
+            }
+        } else {
+            overBudgetWindows = 0;
+            recoveredWindows = 0;
+        }
+    }
+
+    private void detach() {
+        running = false;
+        scene.removePreLayoutPulseListener(pulseListener);
+    }
+
+    private void resetWindow() {
+        frames = 0;
+        frameNanos = 0;
+    }
+
+    private void stepDown(double meanMillis) {
+        RenderQuality current = quality.get();
+        RenderQuality next = RenderQuality.values()[current.ordinal() + 1];
+        switch (next) {
+            case NO_EFFECTS -> removeEffects(stage.getRoot());
+            case CACHED -> cacheLayout();
+            case SQUARE_CHROME -> {
+                // Stage sudah tampil: hanya cat chrome yang berubah, bukan gaya jendela
+                previousStrategy = stage.getRenderStrategy();
+                stage.setRenderStrategy(RenderStrategy.OPAQUE);
+            }
+            case DEFERRED_LAYOUT -> {
+                previousLiveResize = stage.isLiveResizeEnabled();
+                stage.setLiveResizeEnabled(true);
+            }
+            default -> throw new IllegalStateException("Cannot step down to " + next);
+        }
+        changed(current, next, meanMillis);
+    }
+
+    private void stepUp(double meanMillis) {
+        RenderQuality current = quality.get();
+        RenderQuality next = RenderQuality.values()[current.ordinal() - 1];
+        switch (current) {
+            case NO_EFFECTS -> restoreEffects();
+            case CACHED -> restoreCache();
+            case SQUARE_CHROME -> stage.setRenderStrategy(previousStrategy);
+            case DEFERRED_LAYOUT -> stage.setLiveResizeEnabled(previousLiveResize);
+            default -> throw new IllegalStateException("Cannot step up from " + current);
+        }
+        changed(current, next, meanMillis);
+    }
+
+    private void changed(RenderQuality previous, RenderQuality next, double meanMillis) {
+        quality.set(next);
+        LOGGER.log(Level.FINE, "Render quality of \"{0}\" changed from {1} to {2} (mean frame {3} ms)",
+                new Object[] {stage.getTitle(), previous, next, meanMillis});
+
+        RenderQualityEvent event = new RenderQualityEvent();
+        if (event.shouldCommit()) {
+            event.windowTitle = stage.getTitle();
+            event.previousQuality = previous.name();
+            event.quality = next.name();
+            event.meanFrameMillis = meanMillis;
+            event.commit();
+        }
+    }
+
+    private void removeEffects(Node node) {
+        Effect effect = node.getEffect();
+        if (effect != null) {
+            removedEffects.put(node, effect);
+            node.setEffect(null);
+        }
+        if (node instanceof Parent parent) {
+            for (Node child : parent.getChildrenUnmodifiable()) {
+                removeEffects(child);
+            }
+        }
+    }
+
+    private void restoreEffects() {
+        removedEffects.forEach((node, effect) -> {
+            // Jangan timpa efek yang dipasang aplikasi selama kualitas diturunkan
+            if (node.getEffect() == null) {
+                node.setEffect(effect);
+            }
+        });
+        removedEffects.clear();
+    }
+
+    private void cacheLayout() {
+        for (Node child : stage.getRoot().getChildren()) {
+            if (child.isManaged()) {
+                cachedNodes.put(child, new CacheState(child.isCache(), child.getCacheHint()));
+                child.setCache(true);
+                child.setCacheHint(CacheHint.SPEED);
+            }
+        }
+    }
+
+    private void restoreCache() {
+        cachedNodes.forEach((node, state) -> {
+            node.setCache(state.cache());
+            node.setCacheHint(state.hint());
+        });
+        cachedNodes.clear();
+    }
+
+    private record CacheState(boolean cache, CacheHint hint) {
+    }
+}
@@ -1,11 +1,25 @@
 package id.alphareso.meidofx.base.stages;
 
-import id.alphareso.meidofx.base.handlers.WindowDragHandler;
+import id.alphareso.meidofx.base.diagnostics.ContentSwapEvent;
+import id.alphareso.meidofx.base.diagnostics.LayoutProfiler;
+import id.alphareso.meidofx.base.enums.ChromeConstruction;
+import id.alphareso.meidofx.base.enums.RenderStrategy;
+import id.alphareso.meidofx.base.enums.WindowInteractionState;
 import id.alphareso.meidofx.base.handlers.WindowResizeHandler;
-import javafx.geometry.Insets;
+import id.alphareso.meidofx.util.PaintCache;
+import javafx.application.ConditionalFeature;
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
 import javafx.scene.layout.*;
 import javafx.scene.paint.Color;
-import javafx.stage.StageStyle; /**
+import javafx.stage.StageStyle;
+import javafx.stage.WindowEvent;
+import javafx.util.Duration;
+
+import java.util.Objects;
+
+/**
  * A specialized stage with rounded corners, supporting title bar, sidebar, and content area.
  */
 public class RoundStage extends BaseStage {
@@ -13,11 +27,22 @@ public class RoundStage extends BaseStage {
     private static final Color DEFAULT_CONTENT_AREA_BACKGROUND = Color.GREY;
     private static final Color DEFAULT_NAVIGATION_AREA_BACKGROUND = Color.LIGHTSKYBLUE;
 
-    private final StackPane contentArea;
-    private final StackPane navigationArea;
-    private final BorderPane layout;
-    private WindowResizeHandler resizeHandler;
+    private static Boolean softwarePipeline;
+
+    private final ChromeConstruction construction;
     private final double cornerRadius;
+    private StackPane contentArea;
+    private StackPane navigationArea;
+    private BorderPane layout;
+    private WindowResizeHandler resizeHandler;
+    private final ReadOnlyObjectWrapper<ContentRouter> contentRouter = new ReadOnlyObjectWrapper<>(this, "contentRouter");
+    private LiveResizeController liveResize;
+    private boolean liveResizeEnabled;
+    private RenderQualityGovernor qualityGovernor;
+    private RenderStrategy renderStrategy = RenderStrategy.TRANSPARENT;
+    private Color backgroundColor = DEFAULT_BACKGROUND_COLOR;
+    private boolean opaqueChrome;
+    private boolean shownOnce;
 
     /**
      * Creates a new round stage with default corner radius (20px).
@@ -34,58 +59,140 @@ public class RoundStage extends BaseStage {
      * @param cornerRadius The corner radius in pixels
      */
     public RoundStage(double minWidth, double minHeight, double cornerRadius) {
+        this(minWidth, minHeight, cornerRadius, ChromeConstruction.EAGER);
+    }
+
+    /**
+     * Creates a new round stage with specified minimum dimensions, corner radius and
+     * construction mode. With {@link ChromeConstruction#LAZY} the layout, content area and
+     * navigation area are created on first use, and the resize grip only when
+     * {@link #setResizeGripEnabled(boolean) enabled}.
+     *
+     * @param minWidth The minimum width of the stage
+     * @param minHeight The minimum height of the stage
+     * @param cornerRadius The corner radius in pixels
+     * @param construction When the chrome regions are created
+     */
+    public RoundStage(double minWidth, double minHeight, double cornerRadius, ChromeConstruction construction) {
         super(minWidth, minHeight);
+        long chromeStart = System.nanoTime();
         this.cornerRadius = cornerRadius;
+        this.construction = construction;
 
         // Initialize with transparent style for rounded corners
         this.initStyle(StageStyle.TRANSPARENT);
 
-        // Set up the layout
-        layout = new BorderPane();
-
-        // Content area (center)
-        contentArea = new StackPane();
-        contentArea.setBackground(new Background(new BackgroundFill(
-                DEFAULT_CONTENT_AREA_BACKGROUND,
-                CornerRadii.EMPTY,
-                Insets.EMPTY
-        )));
-        layout.setCenter(contentArea);
-
-        // Navigation area (left)
-        navigationArea = new StackPane();
-        navigationArea.setBackground(new Background(new BackgroundFill(
-                DEFAULT_NAVIGATION_AREA_BACKGROUND,
-                CornerRadii.EMPTY,
-                Insets.EMPTY
-        )));
-        layout.setLeft(navigationArea);
-
-        // Apply rounded corners to the root
-        root.setBackground(new Background(new BackgroundFill(
-                Color.rgb(240, 240, 240),
-                new CornerRadii(cornerRadius),
-                Insets.EMPTY
-        )));
-
-        // Tambahkan border hitam tipis pada root
-        root.setBorder(new Border(new BorderStroke(
-                Color.BLACK,
-                BorderStrokeStyle.SOLID,
-                new CornerRadii(cornerRadius), // Mengikuti cornerRadius root
-                new BorderWidths(1)
-        )));
-
-        // Add layout to root
+        // Apply rounded corners, a thin black border and a transparent scene fill
+        applyChromePaint();
+
         root.getChildren().clear();
-        root.getChildren().add(layout);
 
-        // Apply css to scene
-        scene.setFill(Color.TRANSPARENT);
+        // The window style can only be chosen before the stage is first shown
+        addEventHandler(WindowEvent.WINDOW_SHOWING, event -> shownOnce = true);
+        maximizedProperty().addListener(observable -> updateChromePaint());
+
+        interaction.stateProperty().addListener((obs, oldState, newState) -> {
+            if (!liveResizeEnabled) {
+                return;
+            }
+            if (newState == WindowInteractionState.RESIZING) {
+                liveResize.resizeStarted();
+            } else if (oldState == WindowInteractionState.RESIZING) {
+                liveResize.resizeFinished();
+            }
+        });
+
+        if (construction == ChromeConstruction.EAGER) {
+            // Layout with content area (center) and navigation area (left)
+            ensureContentArea();
+            ensureNavigationArea();
+
+            // Add resize handler in the bottom-right corner
+            setResizeGripEnabled(true);
+        }
+        finishConstruction(System.nanoTime() - chromeStart);
+    }
+
+    private BorderPane ensureLayout() {
+        if (layout == null) {
+            layout = new LayoutPane();
+            layout.getStyleClass().add("window-layout");
+            // Layout selalu di bawah resize grip
+            root.getChildren().add(0, layout);
+        }
+        return layout;
+    }
+
+    private StackPane ensureContentArea() {
+        if (contentArea == null) {
+            contentArea = new AreaPane();
+            contentArea.getStyleClass().add("content-area");
+            contentArea.setBackground(PaintCache.background(DEFAULT_CONTENT_AREA_BACKGROUND));
+            ensureLayout().setCenter(contentArea);
+        }
+        return contentArea;
+    }
+
+    private StackPane ensureNavigationArea() {
+        if (navigationArea == null) {
+            navigationArea = new AreaPane();
+            navigationArea.getStyleClass().add("navigation-area");
+            navigationArea.setBackground(PaintCache.background(DEFAULT_NAVIGATION_AREA_BACKGROUND));
+            ensureLayout().setLeft(navigationArea);
+        }
+        return navigationArea;
+    }
+
+    /**
+     * Gets the construction mode of this stage's chrome regions.
+     *
+     * @return The construction mode
+     */
+    public ChromeConstruction getConstruction() {
+        return construction;
+    }
+
+    /**
+     * Shows or hides the resize grip in the bottom-right corner. The grip is created the
+     * first time it is enabled.
+     *
+     * @param enabled true to show the resize grip
+     */
+    public void setResizeGripEnabled(boolean enabled) {
+        if (enabled && resizeHandler == null) {
+            resizeHandler = new WindowResizeHandler(this, root);
+        }
+        if (resizeHandler != null) {
+            resizeHandler.getResizeHandle().setVisible(enabled);
+            resizeHandler.getResizeHandle().setManaged(enabled);
+        }
+    }
 
-        // Add resize handler in the bottom-right corner
-        resizeHandler = new WindowResizeHandler(this, root);
+    /**
+     * Checks whether the resize grip is shown.
+     *
+     * @return true if the resize grip exists and is visible
+     */
+    public boolean isResizeGripEnabled() {
+        return resizeHandler != null && resizeHandler.getResizeHandle().isVisible();
+    }
 
+    /**
+     * Stops live-resize and drops the cached views of the content router before releasing
+     * the stage.
+     */
+    @Override
+    public void dispose() {
+        if (isDisposed()) {
+            return;
+        }
+        if (liveResize != null) {
+            liveResize.resizeFinished();
+        }
+        if (contentRouter.get() != null) {
+            contentRouter.get().clearCache();
+        }
+        super.dispose();
     }
 
     /**
@@ -94,7 +201,16 @@ public class RoundStage extends BaseStage {
      * @param titleBar The title bar node
      */
     public void setTitleBar(Region titleBar) {
-        layout.setTop(titleBar);
+        ensureLayout().setTop(titleBar);
+    }
+
+    /**
+     * Gets the title bar component, if one has been set.
+     *
+     * @return The title bar node, or null
+     */
+    public Region getTitleBar() {
+        return layout != null ? (Region) layout.getTop() : null;
     }
 
     /**
@@ -103,7 +219,7 @@ public class RoundStage extends BaseStage {
      * @param sidebar The sidebar node
      */
     public void setSidebar(Region sidebar) {
-        layout.setLeft(sidebar);
+        ensureLayout().setLeft(sidebar);
     }
 
     /**
@@ -112,16 +228,58 @@ public class RoundStage extends BaseStage {
      * @param navigation The navigation area node
      */
     public void setNavigationArea(Region navigation) {
-        navigationArea.getChildren().setAll(navigation);
+        ensureNavigationArea().getChildren().setAll(navigation);
     }
 
     /**
-     * Sets the content in the main content area.
+     * Sets the content in the main content area. This bypasses the
+     * {@link #getContentRouter() content router} and drops its cached views.
      *
      * @param content The content node
      */
     public void setContent(Region content) {
-        contentArea.getChildren().setAll(content);
+        ContentSwapEvent event = new ContentSwapEvent();
+        event.begin();
+        if (contentRouter.get() != null) {
+            contentRouter.get().clearCache();
+        }
+        ensureContentArea().getChildren().setAll(content);
+        if (event.shouldCommit()) {
+            event.windowTitle = getTitle();
+            event.contentClass = content.getClass().getName();
+            event.commit();
+        }
+    }
+
+    /**
+     * Gets the content router that switches the content area between cached views.
+     *
+     * @return The content router
+     */
+    public ContentRouter getContentRouter() {
+        if (contentRouter.get() == null) {
+            contentRouter.set(new ContentRouter(ensureContentArea()));
+        }
+        return contentRouter.get();
+    }
+
+    /**
+     * Checks whether the content router has been created, without creating it.
+     *
+     * @return true if the stage has a content router
+     */
+    public boolean hasContentRouter() {
+        return contentRouter.get() != null;
+    }
+
+    /**
+     * The content router of the stage. Holds null until {@link #getContentRouter()} first
+     * creates the router, so listeners can wait for it without forcing its creation.
+     *
+     * @return The read-only content router property
+     */
+    public ReadOnlyObjectProperty<ContentRouter> contentRouterProperty() {
+        return contentRouter.getReadOnlyProperty();
     }
 
     /**
@@ -130,7 +288,7 @@ public class RoundStage extends BaseStage {
      * @param rightSidebar The right sidebar node
      */
     public void setRightSidebar(Region rightSidebar) {
-        layout.setRight(rightSidebar);
+        ensureLayout().setRight(rightSidebar);
     }
 
     /**
@@ -139,7 +297,7 @@ public class RoundStage extends BaseStage {
      * @return The content area
      */
     public StackPane getContentArea() {
-        return contentArea;
+        return ensureContentArea();
     }
 
     /**
@@ -149,11 +307,90 @@ public class RoundStage extends BaseStage {
      */
     @Override
     public void setBackgroundColor(Color color) {
-        root.setBackground(new Background(new BackgroundFill(
-                color,
-                new CornerRadii(cornerRadius),
-                Insets.EMPTY
-        )));
+        backgroundColor = color;
+        applyChromePaint();
+    }
+
+    /**
+     * Gets the background color of the main window.
+     *
+     * @return The background color
+     */
+    public Color getBackgroundColor() {
+        return backgroundColor;
+    }
+
+    /**
+     * Sets how the window is composed. Before the stage is first shown this also chooses the
+     * window style: {@link StageStyle#UNDECORATED} for {@link RenderStrategy#OPAQUE}, and for
+     * {@link RenderStrategy#AUTO} when rendering runs on the software pipeline;
+     * {@link StageStyle#TRANSPARENT} otherwise.
+     * <p>
+     * Once the stage has been shown its style is fixed by JavaFX. A later switch, whether by
+     * calling this method with {@link RenderStrategy#OPAQUE} or by maximizing an
+     * {@link RenderStrategy#AUTO} window, only changes the chrome paint (square corners and an
+     * opaque scene fill). The window stays a transparent surface and is still composited with
+     * per-pixel alpha. The scene graph is never rebuilt.
+     *
+     * @param strategy The render strategy
+     */
+    public void setRenderStrategy(RenderStrategy strategy) {
+        Objects.requireNonNull(strategy, "RenderStrategy cannot be null");
+        this.renderStrategy = strategy;
+        if (!shownOnce) {
+            boolean opaqueWindow = strategy == RenderStrategy.OPAQUE
+                    || (strategy == RenderStrategy.AUTO && isSoftwarePipeline());
+            initStyle(opaqueWindow ? StageStyle.UNDECORATED : StageStyle.TRANSPARENT);
+        }
+        updateChromePaint();
+    }
+
+    /**
+     * Gets the render strategy.
+     *
+     * @return The render strategy
+     */
+    public RenderStrategy getRenderStrategy() {
+        return renderStrategy;
+    }
+
+    /**
+     * Checks whether the chrome is currently painted opaque with square corners.
+     *
+     * @return true if the chrome is opaque
+     */
+    public boolean isOpaqueChrome() {
+        return opaqueChrome;
+    }
+
+    private void updateChromePaint() {
+        boolean opaque = switch (renderStrategy) {
+            case TRANSPARENT -> false;
+            case OPAQUE -> true;
+            case AUTO -> isMaximized() || isSoftwarePipeline();
+        };
+        if (opaque != opaqueChrome) {
+            opaqueChrome = opaque;
+            applyChromePaint();
+        }
+    }
+
+    private void applyChromePaint() {
+        double radius = opaqueChrome ? 0 : cornerRadius;
+        root.setBackground(PaintCache.background(backgroundColor, radius));
+        // Tambahkan border hitam tipis pada root, mengikuti radius root
+        root.setBorder(PaintCache.border(Color.BLACK, PaintCache.radii(radius), 1));
+        scene.setFill(opaqueChrome ? backgroundColor : Color.TRANSPARENT);
+    }
+
+    private static boolean isSoftwarePipeline() {
+        if (softwarePipeline == null) {
+            // 3D is not available on the software (j2d/sw) pipelines
+            String order = System.getProperty("prism.order", "");
+            softwarePipeline = order.startsWith("sw") || order.startsWith("j2d")
+                    || !Platform.isSupported(ConditionalFeature.SCENE3D);
+        }
+        return softwarePipeline;
     }
 
     /**
@@ -162,11 +399,7 @@ public class RoundStage extends BaseStage {
      * @param color The content area background color
      */
     public void setContentBackgroundColor(Color color) {
-        contentArea.setBackground(new Background(new BackgroundFill(
-                color,
-                CornerRadii.EMPTY,
-                Insets.EMPTY
-        )));
+        ensureContentArea().setBackground(PaintCache.background(color));
     }
 
     /**
@@ -175,31 +408,222 @@ public class RoundStage extends BaseStage {
      * @return The BorderPane layout
      */
     public BorderPane getLayout() {
-        return layout;
+        return ensureLayout();
     }
 
     /**
      * Gets the resize handler for this stage.
      *
-     * @return The resize handler
+     * @return The resize handler, or null if the resize grip was never enabled
      */
     public WindowResizeHandler getResizeHandler() {
         return resizeHandler;
     }
 
+    /**
+     * Enables or disables live-resize mode. While enabled, a resize gesture shows a stretched
+     * snapshot of the content area instead of laying out the content on every resize step.
+     * The content is laid out once when the gesture ends, or earlier when the pointer rests
+     * for longer than the {@link #setLiveResizeIdleThreshold(Duration) idle threshold}.
+     *
+     * @param enabled true to enable live-resize mode
+     */
+    public void setLiveResizeEnabled(boolean enabled) {
+        if (enabled == liveResizeEnabled) {
+            return;
+        }
+        liveResizeEnabled = enabled;
+        if (enabled) {
+            getLiveResizeController().attach(ensureLayout());
+        } else {
+            liveResize.detach(ensureLayout());
+        }
+    }
+
+    /**
+     * Checks whether live-resize mode is enabled.
+     *
+     * @return true if live-resize mode is enabled
+     */
+    public boolean isLiveResizeEnabled() {
+        return liveResizeEnabled;
+    }
+
+    /**
+     * Sets how long the pointer must rest during a live resize before the content
+     * is laid out at the intermediate size.
+     *
+     * @param threshold The idle threshold
+     */
+    public void setLiveResizeIdleThreshold(Duration threshold) {
+        getLiveResizeController().setIdleThreshold(threshold);
+    }
+
+    /**
+     * Gets the live-resize idle threshold.
+     *
+     * @return The idle threshold
+     */
+    public Duration getLiveResizeIdleThreshold() {
+        return liveResize != null ? liveResize.getIdleThreshold() : LiveResizeController.DEFAULT_IDLE_THRESHOLD;
+    }
+
+    /**
+     * Enables or disables adaptive rendering quality. While enabled, the stage's
+     * {@link RenderQualityGovernor} lowers the rendering quality when frames take longer than
+     * the frame budget, and raises it again when they recover. Disabling it restores full
+     * quality.
+     *
+     * @param enabled true to enable adaptive rendering quality
+     */
+    public void setAdaptiveQualityEnabled(boolean enabled) {
+        if (enabled) {
+            getRenderQualityGovernor().start();
+        } else if (qualityGovernor != null) {
+            qualityGovernor.stop();
+        }
+    }
+
+    /**
+     * Checks whether adaptive rendering quality is enabled.
+     *
+     * @return true if adaptive rendering quality is enabled
+     */
+    public boolean isAdaptiveQualityEnabled() {
+        return qualityGovernor != null && qualityGovernor.isRunning();
+    }
+
+    /**
+     * Gets the rendering quality governor of this stage, creating it on first use.
+     *
+     * @return The rendering quality governor
+     */
+    public RenderQualityGovernor getRenderQualityGovernor() {
+        if (qualityGovernor == null) {
+            qualityGovernor = new RenderQualityGovernor(this);
+        }
+        return qualityGovernor;
+    }
+
+    private LiveResizeController getLiveResizeController() {
+        if (liveResize == null) {
+            liveResize = new LiveResizeController(this, ensureContentArea());
+        }
+        return liveResize;
+    }
+
     /**
      * Adds specific content to the navigation area.
      *
      * @param sideMenu The content node to be added to the navigation area
      */
     public void addNavigationContent(VBox sideMenu) {
-        navigationArea.getChildren().add(sideMenu);
+        ensureNavigationArea().getChildren().add(sideMenu);
     }
 
     /**
      * Clears all content from the navigation area.
      */
     public void clearNavigationContent() {
-        navigationArea.getChildren().clear();
+        if (navigationArea != null) {
+            navigationArea.getChildren().clear();
+        }
+    }
+
+    /**
+     * The window layout, reporting its layout work to the active {@link LayoutProfiler}.
+     */
+    private static final class LayoutPane extends BorderPane {
+        @Override
+        protected void layoutChildren() {
+            LayoutProfiler profiler = LayoutProfiler.getActive();
+            if (profiler == null) {
+                super.layoutChildren();
+                return;
+            }
+            long start = profiler.enter();
+            try {
+                super.layoutChildren();
+            } finally {
+                profiler.layoutFinished(this, start);
+            }
+        }
+
+        @Override
+        protected double computePrefWidth(double height) {
+            LayoutProfiler profiler = LayoutProfiler.getActive();
+            if (profiler == null) {
+                return super.computePrefWidth(height);
+            }
+            long start = profiler.enter();
+            try {
+                return super.computePrefWidth(height);
+            } finally {
+                profiler.prefSizeFinished(this, start);
+            }
+        }
+
+        @Override
+        protected double computePrefHeight(double width) {
+            LayoutProfiler profiler = LayoutProfiler.getActive();
+            if (profiler == null) {
+                return super.computePrefHeight(width);
+            }
+            long start = profiler.enter();
+            try {
+                return super.computePrefHeight(width);
+            } finally {
+                profiler.prefSizeFinished(this, start);
+            }
+        }
+    }
+
+    /**
+     * The content and navigation areas, reporting their layout work to the active
+     * {@link LayoutProfiler}.
+     */
+    private static final class AreaPane extends StackPane {
+        @Override
+        protected void layoutChildren() {
+            LayoutProfiler profiler = LayoutProfiler.getActive();
+            if (profiler == null) {
+                super.layoutChildren();
+                return;
+            }
+            long start = profiler.enter();
+            try {
+                super.layoutChildren();
+            } finally {
+                profiler.layoutFinished(this, start);
+            }
+        }
+
+        @Override
+        protected double computePrefWidth(double height) {
+            LayoutProfiler profiler = LayoutProfiler.getActive();
+            if (profiler == null) {
+                return super.computePrefWidth(height);
+            }
+            long start = profiler.enter();
+            try {
+                return super.computePrefWidth(height);
+            } finally {
+                profiler.prefSizeFinished(this, start);
+            }
+        }
+
+        @Override
+        protected double computePrefHeight(double width) {
+            LayoutProfiler profiler = LayoutProfiler.getActive();
+            if (profiler == null) {
+                return super.computePrefHeight(width);
+            }
+            long start = profiler.enter();
+            try {
+                return super.computePrefHeight(width);
+            } finally {
+                profiler.prefSizeFinished(this, start);
+            }
+        }
     }
 }
@@ -0,0 +1,204 @@
+package id.alphareso.meidofx.base.stages;
+
+import id.alphareso.meidofx.base.controls.WindowControlButtons;
+import id.alphareso.meidofx.base.enums.ControlGlyphStyle;
+import id.alphareso.meidofx.base.titles.TitleBar;
+import id.alphareso.meidofx.util.ImageCache;
+import javafx.application.Platform;
+import javafx.scene.Node;
+import javafx.scene.image.Image;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Builds {@link RoundStage} windows from {@link WindowTemplate}s without blocking the FX thread
+ * on their content.
+ * <p>
+ * JavaFX nodes may be created on any thread as long as they are not part of a showing scene,
+ * but a {@code Stage} and its scene must be created on the FX thread. The factory therefore
+ * builds the node trees of a template (navigation, content and initial view) and decodes the
+ * window icon on a background executor, then creates the stage and its title bar on the FX
+ * thread and attaches the prepared trees. The title bar and its control buttons are therefore
+ * still built on the FX thread. The returned future completes on the FX thread, with a stage
+ * that is ready to show or with the exception that stopped the build.
+ */
+public class WindowFactory {
+    private static final int POOL_SIZE = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+
+    private static ExecutorService defaultExecutor;
+
+    private final Executor executor;
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicLong createdCount = new AtomicLong();
+
+    /**
+     * Creates a window factory using a shared pool of background threads.
+     */
+    public WindowFactory() {
+        this(defaultExecutor());
+    }
+
+    /**
+     * Creates a window factory that builds node trees on the given executor.
+     *
+     * @param executor The executor for background work
+     */
+    public WindowFactory(Executor executor) {
+        this.executor = Objects.requireNonNull(executor, "Executor cannot be null");
+    }
+
+    /**
+     * Builds a window from a template.
+     *
+     * @param template The window template
+     * @return A future completed on the FX thread with the new, not yet shown stage, or
+     *         exceptionally on the FX thread when the window could not be built
+     */
+    public CompletableFuture<RoundStage> create(WindowTemplate template) {
+        Objects.requireNonNull(template, "Template cannot be null");
+        pendingCount.incrementAndGet();
+
+        // Kedua hasil diselesaikan lewat runLater, supaya handler pemanggil selalu jalan di FX thread
+        CompletableFuture<RoundStage> result = new CompletableFuture<>();
+        CompletableFuture
+                .supplyAsync(() -> build(template), executor)
+                .whenComplete((parts, error) -> Platform.runLater(() -> {
+                    RoundStage stage = null;
+                    Throwable failure = error;
+                    if (failure == null) {
+                        try {
+                            stage = assemble(template, parts);
+                        } catch (RuntimeException e) {
+                            failure = e;
+                        }
+                    }
+                    pendingCount.decrementAndGet();
+                    if (failure != null) {
+                        result.completeExceptionally(failure);
+                    } else {
+                        result.complete(stage);
+                    }
+                }));
+        return result;
+    }
+
+    /**
+     * Gets the number of windows that are still being built.
+     *
+     * @return The pending count
+     */
+    public int getPendingCount() {
+        return pendingCount.get();
+    }
+
+    /**
+     * Gets the number of windows built by this factory.
+     *
+     * @return The created count
+     */
+    public long getCreatedCount() {
+        return createdCount.get();
+    }
+
+    /**
+     * Node trees and resources of a window, prepared off the FX thread.
+     */
+    private record Parts(VBox navigation, Region content, Node initialView, Image icon) {}
+
+    private Parts build(WindowTemplate template) {
+        VBox navigation = template.getNavigation() != null ? template.getNavigation().get() : null;
+
+        Region content = null;
+        Node initialView = null;
+        if (template.getViews().isEmpty()) {
+            content = template.getContent() != null ? template.getContent().get() : null;
+        } else if (template.getInitialView() != null) {
+            Supplier<? extends Node> view = template.getViews().get(template.getInitialView());
+            initialView = view != null ? view.get() : null;
+        }
+
+        // Ikon di-decode di sini agar TitleBar langsung mendapat gambar dari cache
+        Image icon = null;
+        if (template.getIconPath() != null) {
+            icon = ImageCache.get(template.getIconPath());
+            if (template.getTitleBarStyle() != null) {
+                ImageCache.get(template.getIconPath(), TitleBar.DEFAULT_ICON_SIZE, TitleBar.DEFAULT_ICON_SIZE);
+            }
+        }
+        if (template.getTitleBarStyle() != null && template.getGlyphStyle() == ControlGlyphStyle.RASTER) {
+            WindowControlButtons.preloadIcons().join();
+        }
+        return new Parts(navigation, content, initialView, icon);
+    }
+
+    private RoundStage assemble(WindowTemplate template, Parts parts) {
+        RoundStage stage = new RoundStage(template.getMinWidth(), template.getMinHeight(),
+                template.getCornerRadius(), template.getConstruction());
+        stage.setRenderStrategy(template.getRenderStrategy());
+        stage.setTitle(template.getTitle());
+        if (parts.icon() != null) {
+            stage.getIcons().add(parts.icon());
+        }
+
+        if (template.getTitleBarStyle() != null) {
+            TitleBar titleBar = new TitleBar(stage, template.getTitleBarStyle(), template.getGlyphStyle());
+            if (template.getIconPath() != null) {
+                titleBar.setIcon(template.getIconPath());
+            }
+            stage.setTitleBar(titleBar);
+        }
+        if (template.isResizeGripEnabled()) {
+            stage.setResizeGripEnabled(true);
+        }
+        if (parts.navigation() != null) {
+            stage.addNavigationContent(parts.navigation());
+        }
+
+        if (!template.getViews().isEmpty()) {
+            ContentRouter router = stage.getContentRouter();
+            for (Map.Entry<String, Supplier<? extends Node>> entry : template.getViews().entrySet()) {
+                router.register(entry.getKey(), entry.getValue());
+            }
+            String key = template.getInitialView();
+            Supplier<? extends Node> initial = key != null ? template.getViews().get(key) : null;
+            if (initial != null) {
+                if (parts.initialView() != null) {
+                    // View awal sudah dibangun di background, pakai sekali lalu kembali ke supplier asli
+                    Node prebuilt = parts.initialView();
+                    router.register(key, () -> prebuilt);
+                    router.navigate(key);
+                    router.register(key, initial);
+                } else {
+                    router.navigate(key);
+                }
+            }
+        } else if (parts.content() != null) {
+            stage.setContent(parts.content());
+        }
+
+        createdCount.incrementAndGet();
+        return stage;
+    }
+
+    private static synchronized ExecutorService defaultExecutor() {
+        if (defaultExecutor == null) {
+            AtomicInteger count = new AtomicInteger();
+            defaultExecutor = Executors.newFixedThreadPool(POOL_SIZE, runnable -> {
+                Thread thread = new Thread(runnable, "meidofx-window-factory-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return defaultExecutor;
+    }
+}
@@ -0,0 +1,183 @@
+package id.alphareso.meidofx.base.stages;
+
+import javafx.util.Duration;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Registry of all {@link BaseStage} instances of the application.
+ * <p>
+ * Stages register themselves when they are created and are only held weakly, so the registry
+ * never keeps a window alive. Disposed stages are tracked until the garbage collector reclaims
+ * them; a disposed stage that stays reachable for a long time is usually pinned by a stray
+ * reference in user code (a listener, a cached node, a field) and is reported by
+ * {@link #findLeaks(Duration)}.
+ * <p>
+ * The window manager is meant to be used on the FX thread.
+ */
+public final class WindowManager {
+    private static final Logger LOGGER = Logger.getLogger(WindowManager.class.getName());
+
+    private static WindowManager instance;
+
+    private final Map<BaseStage, Boolean> windows = new WeakHashMap<>();
+    private final ReferenceQueue<BaseStage> reclaimed = new ReferenceQueue<>();
+    private final Set<DisposedWindow> disposedWindows = new HashSet<>();
+
+    private long registeredCount;
+    private long disposedCount;
+    private long reclaimedCount;
+
+    private WindowManager() {}
+
+    /**
+     * Gets the application-wide window manager.
+     *
+     * @return The window manager
+     */
+    public static WindowManager getInstance() {
+        if (instance == null) {
+            instance = new WindowManager();
+        }
+        return instance;
+    }
+
+    void register(BaseStage stage) {
+        windows.put(stage, Boolean.TRUE);
+        registeredCount++;
+    }
+
+    void disposed(BaseStage stage) {
+        windows.remove(stage);
+        disposedWindows.add(new DisposedWindow(stage, reclaimed));
+        disposedCount++;
+        expunge();
+    }
+
+    /**
+     * Gets the stages that are alive and not disposed, shown or not.
+     *
+     * @return A snapshot of the registered stages
+     */
+    public List<BaseStage> getWindows() {
+        return new ArrayList<>(windows.keySet());
+    }
+
+    /**
+     * Gets the number of stages that are alive and not disposed.
+     *
+     * @return The window count
+     */
+    public int getWindowCount() {
+        return windows.size();
+    }
+
+    /**
+     * Disposes every registered stage.
+     */
+    public void disposeAll() {
+        for (BaseStage stage : getWindows()) {
+            stage.dispose();
+        }
+    }
+
+    /**
+     * Gets the number of disposed stages the garbage collector has not reclaimed yet.
+     *
+     * @return The unreclaimed count
+     */
+    public int getUnreclaimedCount() {
+        expunge();
+        return disposedWindows.size();
+    }
+
+    /**
+     * Finds disposed stages that are still reachable a given time after they were disposed.
+     * The result is only meaningful after a garbage collection has had the chance to run.
+     *
+     * @param minAge How long a stage must have been disposed to be reported
+     * @return Descriptions of the suspected leaks, oldest first
+     */
+    public List<String> findLeaks(Duration minAge) {
+        expunge();
+        long now = System.nanoTime();
+        long minAgeNanos = (long) (minAge.toMillis() * 1_000_000L);
+
+        List<DisposedWindow> suspects = new ArrayList<>();
+        for (DisposedWindow window : disposedWindows) {
+            if (now - window.disposedAt >= minAgeNanos && window.get() != null) {
+                suspects.add(window);
+            }
+        }
+        suspects.sort((a, b) -> Long.compare(a.disposedAt, b.disposedAt));
+
+        List<String> leaks = new ArrayList<>(suspects.size());
+        for (DisposedWindow window : suspects) {
+            String leak = window.description + " disposed " + (now - window.disposedAt) / 1_000_000L + " ms ago";
+            leaks.add(leak);
+            LOGGER.log(Level.WARNING, "Possible window leak: {0}", leak);
+        }
+        return leaks;
+    }
+
+    /**
+     * Gets the number of stages registered since startup.
+     *
+     * @return The registered count
+     */
+    public long getRegisteredCount() {
+        return registeredCount;
+    }
+
+    /**
+     * Gets the number of stages disposed since startup.
+     *
+     * @return The disposed count
+     */
+    public long getDisposedCount() {
+        return disposedCount;
+    }
+
+    /**
+     * Gets the number of disposed stages reclaimed by the garbage collector.
+     *
+     * @return The reclaimed count
+     */
+    public long getReclaimedCount() {
+        expunge();
+        return reclaimedCount;
+    }
+
+    private void expunge() {
+        Reference<? extends BaseStage> reference;
+        while ((reference = reclaimed.poll()) != null) {
+            if (disposedWindows.remove(reference)) {
+                reclaimedCount++;
+            }
+        }
+    }
+
+    /**
+     * Weak reference to a disposed stage, remembering what it was for leak reports.
+     */
+    private static final class DisposedWindow extends WeakReference<BaseStage> {
+        private final String description;
+        private final long disposedAt;
+
+        DisposedWindow(BaseStage stage, ReferenceQueue<BaseStage> queue) {
+            super(stage, queue);
+            this.description = stage.getClass().getSimpleName() + " \"" + stage.getTitle() + "\"";
+            this.disposedAt = System.nanoTime();
+        }
+    }
+}
@@ -0,0 +1,286 @@
+package id.alphareso.meidofx.base.stages;
+
+import id.alphareso.meidofx.base.enums.ChromeConstruction;
+import id.alphareso.meidofx.base.enums.ControlGlyphStyle;
+import id.alphareso.meidofx.base.enums.RenderStrategy;
+import id.alphareso.meidofx.base.enums.TitleBarStyle;
+import javafx.scene.Node;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Declarative description of a window, used by the {@link WindowFactory} to build any number
+ * of windows of the same kind.
+ * <p>
+ * The suppliers of a template are called once per window, on a background thread, so they
+ * must build fresh nodes every time and must not touch nodes that are already part of a
+ * showing scene. A template can be reused and shared between windows once it is configured.
+ */
+public class WindowTemplate {
+    private final double minWidth;
+    private final double minHeight;
+    private final double cornerRadius;
+
+    private String title = "";
+    private TitleBarStyle titleBarStyle = TitleBarStyle.ALL;
+    private ControlGlyphStyle glyphStyle = ControlGlyphStyle.RASTER;
+    private String iconPath;
+    private ChromeConstruction construction = ChromeConstruction.EAGER;
+    private RenderStrategy renderStrategy = RenderStrategy.TRANSPARENT;
+    private boolean resizeGripEnabled;
+    private Supplier<? extends VBox> navigation;
+    private Supplier<? extends Region> content;
+    private final Map<String, Supplier<? extends Node>> views = new LinkedHashMap<>();
+    private String initialView;
+
+    /**
+     * Creates a window template.
+     *
+     * @param minWidth The minimum width of the window
+     * @param minHeight The minimum height of the window
+     * @param cornerRadius The corner radius in pixels
+     */
+    public WindowTemplate(double minWidth, double minHeight, double cornerRadius) {
+        this.minWidth = minWidth;
+        this.minHeight = minHeight;
+        this.cornerRadius = cornerRadius;
+    }
+
+    /**
+     * Sets the window title.
+     *
+     * @param title The title
+     */
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    /**
+     * Sets the title bar style. A null style creates the window without a title bar.
+     *
+     * @param titleBarStyle The title bar style, or null
+     */
+    public void setTitleBarStyle(TitleBarStyle titleBarStyle) {
+        this.titleBarStyle = titleBarStyle;
+    }
+
+    /**
+     * Sets how the window control buttons of the title bar draw their icons.
+     *
+     * @param glyphStyle The glyph style
+     */
+    public void setGlyphStyle(ControlGlyphStyle glyphStyle) {
+        this.glyphStyle = Objects.requireNonNull(glyphStyle, "Glyph style cannot be null");
+    }
+
+    /**
+     * Sets the resource path of the window icon, shown in the title bar and task bar.
+     *
+     * @param iconPath The icon resource path, or null
+     */
+    public void setIconPath(String iconPath) {
+        this.iconPath = iconPath;
+    }
+
+    /**
+     * Sets how the chrome of the window is constructed.
+     *
+     * @param construction The construction mode
+     */
+    public void setConstruction(ChromeConstruction construction) {
+        this.construction = Objects.requireNonNull(construction, "Construction cannot be null");
+    }
+
+    /**
+     * Sets the render strategy of the window.
+     *
+     * @param renderStrategy The render strategy
+     */
+    public void setRenderStrategy(RenderStrategy renderStrategy) {
+        this.renderStrategy = Objects.requireNonNull(renderStrategy, "Render strategy cannot be null");
+    }
+
+    /**
+     * Sets whether the window gets a corner resize grip.
+     *
+     * @param resizeGripEnabled true to add the grip
+     */
+    public void setResizeGripEnabled(boolean resizeGripEnabled) {
+        this.resizeGripEnabled = resizeGripEnabled;
+    }
+
+    /**
+     * Sets the supplier of the navigation menu.
+     *
+     * @param navigation The navigation supplier, or null for none
+     */
+    public void setNavigation(Supplier<? extends VBox> navigation) {
+        this.navigation = navigation;
+    }
+
+    /**
+     * Sets the supplier of the window content. Ignored when views are registered.
+     *
+     * @param content The content supplier, or null for none
+     */
+    public void setContent(Supplier<? extends Region> content) {
+        this.content = content;
+    }
+
+    /**
+     * Adds a view for the window's {@link ContentRouter}. The initial view is built in the
+     * background together with the window, the others when they are first shown.
+     *
+     * @param key The view key
+     * @param view The view supplier
+     */
+    public void addView(String key, Supplier<? extends Node> view) {
+        Objects.requireNonNull(key, "Key cannot be null");
+        Objects.requireNonNull(view, "View supplier cannot be null");
+        views.put(key, view);
+        if (initialView == null) {
+            initialView = key;
+        }
+    }
+
+    /**
+     * Sets the view shown when the window opens. Defaults to the first added view.
+     *
+     * @param key The view key
+     */
+    public void setInitialView(String key) {
+        this.initialView = key;
+    }
+
+    /**
+     * Gets the minimum width of the window.
+     *
+     * @return The minimum width
+     */
+    public double getMinWidth() {
+        return minWidth;
+    }
+
+    /**
+     * Gets the minimum height of the window.
+     *
+     * @return The minimum height
+     */
+    public double getMinHeight() {
+        return minHeight;
+    }
+
+    /**
+     * Gets the corner radius of the window.
+     *
+     * @return The corner radius in pixels
+     */
+    public double getCornerRadius() {
+        return cornerRadius;
+    }
+
+    /**
+     * Gets the window title.
+     *
+     * @return The title
+     */
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * Gets the title bar style.
+     *
+     * @return The title bar style, or null for no title bar
+     */
+    public TitleBarStyle getTitleBarStyle() {
+        return titleBarStyle;
+    }
+
+    /**
+     * Gets how the window control buttons of the title bar draw their icons.
+     *
+     * @return The glyph style
+     */
+    public ControlGlyphStyle getGlyphStyle() {
+        return glyphStyle;
+    }
+
+    /**
+     * Gets the resource path of the window icon.
+     *
+     * @return The icon resource path, or null
+     */
+    public String getIconPath() {
+        return iconPath;
+    }
+
+    /**
+     * Gets how the chrome of the window is constructed.
+     *
+     * @return The construction mode
+     */
+    public ChromeConstruction getConstruction() {
+        return construction;
+    }
+
+    /**
+     * Gets the render strategy of the window.
+     *
+     * @return The render strategy
+     */
+    public RenderStrategy getRenderStrategy() {
+        return renderStrategy;
+    }
+
+    /**
+     * Checks whether the window gets a corner resize grip.
+     *
+     * @return true if the grip is added
+     */
+    public boolean isResizeGripEnabled() {
+        return resizeGripEnabled;
+    }
+
+    /**
+     * Gets the supplier of the navigation menu.
+     *
+     * @return The navigation supplier, or null
+     */
+    public Supplier<? extends VBox> getNavigation() {
+        return navigation;
+    }
+
+    /**
+     * Gets the supplier of the window content.
+     *
+     * @return The content supplier, or null
+     */
+    public Supplier<? extends Region> getContent() {
+        return content;
+    }
+
+    /**
+     * Gets the views added to this template, in order.
+     *
+     * @return The view suppliers by key
+     */
+    public Map<String, Supplier<? extends Node>> getViews() {
+        return Collections.unmodifiableMap(views);
+    }
+
+    /**
+     * Gets the view shown when the window opens.
+     *
+     * @return The initial view key, or null
+     */
+    public String getInitialView() {
+        return initialView;
+    }
+}
@@ -0,0 +1,87 @@
+package id.alphareso.meidofx.base.themes;
+
+import id.alphareso.meidofx.util.FileResource;
+import javafx.css.PseudoClass;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A chrome theme, applied by the {@link ThemeEngine}.
+ * <p>
+ * A theme is identified by its name, which is also the pseudo-class set on the root of every
+ * themed scene (e.g. {@code .root:dark}). The built-in light and dark themes only switch that
+ * pseudo-class; their rules live in the base stylesheet. A custom theme can add stylesheets
+ * that are attached after the base stylesheet while the theme is active.
+ */
+public final class Theme {
+    /**
+     * The default light theme.
+     */
+    public static final Theme LIGHT = new Theme("light");
+
+    /**
+     * The built-in dark theme.
+     */
+    public static final Theme DARK = new Theme("dark");
+
+    private final String name;
+    private final PseudoClass pseudoClass;
+    private final List<String> stylesheets;
+
+    /**
+     * Creates a theme.
+     *
+     * @param name The theme name, used as root pseudo-class
+     * @param stylesheets Resource paths of additional stylesheets, e.g. "/styles/ocean.css"
+     * @throws IllegalArgumentException if a stylesheet cannot be found
+     */
+    public Theme(String name, String... stylesheets) {
+        this.name = Objects.requireNonNull(name, "Name cannot be null");
+        this.pseudoClass = PseudoClass.getPseudoClass(name);
+
+        List<String> urls = new ArrayList<>(stylesheets.length);
+        for (String stylesheet : stylesheets) {
+            String url = FileResource.load(stylesheet);
+            if (url == null) {
+                throw new IllegalArgumentException("Stylesheet not found: " + stylesheet);
+            }
+            urls.add(url);
+        }
+        this.stylesheets = Collections.unmodifiableList(urls);
+    }
+
+    /**
+     * Gets the theme name.
+     *
+     * @return The name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the pseudo-class set on the scene root while this theme is active.
+     *
+     * @return The pseudo-class
+     */
+    public PseudoClass getPseudoClass() {
+        return pseudoClass;
+    }
+
+    /**
+     * Gets the URLs of the additional stylesheets of this theme.
+     *
+     * @return The stylesheet URLs, possibly empty
+     */
+    public List<String> getStylesheets() {
+        return stylesheets;
+    }
+
+    @Override
+    public String toString() {
+        return "Theme[" + name + "]";
+    }
+}
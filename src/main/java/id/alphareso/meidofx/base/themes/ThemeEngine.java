@@ -0,0 +1,278 @@
+package id.alphareso.meidofx.base.themes;
+
+import id.alphareso.meidofx.util.FileResource;
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.value.ChangeListener;
+import javafx.event.EventHandler;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.stage.Window;
+import javafx.stage.WindowEvent;
+import javafx.util.Duration;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Applies themes to scenes through stylesheets and a root pseudo-class.
+ * <p>
+ * Every installed scene gets the base stylesheet ({@value #BASE_STYLESHEET}) once; switching
+ * between themes only toggles the theme pseudo-class on the scene roots and swaps the extra
+ * stylesheets of custom themes, so the CSS of the chrome is shared and cached by JavaFX instead
+ * of being parsed per node as inline styles are. When a compiled {@code .bss} file sits next to
+ * a stylesheet, JavaFX loads that instead of parsing the {@code .css}.
+ * <p>
+ * {@link #setTheme(Theme)} updates all installed scenes at once on the FX thread, so the new
+ * theme is rendered by every open window in the same pulse. Each switch is timed and reported
+ * through {@link #lastSwitchProperty()} once every window has rendered it; a window that is
+ * hidden or uninstalled before its next pulse is no longer waited for.
+ * <p>
+ * Every {@code BaseStage} installs its scene automatically. Scenes are held weakly.
+ */
+public final class ThemeEngine {
+    private static final Logger LOGGER = Logger.getLogger(ThemeEngine.class.getName());
+
+    public static final String BASE_STYLESHEET = "/styles/meidofx.css";
+
+    private static ThemeEngine instance;
+
+    private final String baseStylesheet;
+    private final Map<Scene, Boolean> scenes = new WeakHashMap<>();
+    private final ReadOnlyObjectWrapper<Theme> theme = new ReadOnlyObjectWrapper<>(this, "theme", Theme.LIGHT);
+    private final ReadOnlyObjectWrapper<ThemeSwitchReport> lastSwitch = new ReadOnlyObjectWrapper<>(this, "lastSwitch");
+    private final ChangeListener<Parent> rootListener = (obs, oldRoot, newRoot) -> {
+        if (oldRoot != null) {
+            oldRoot.pseudoClassStateChanged(getTheme().getPseudoClass(), false);
+        }
+        if (newRoot != null) {
+            newRoot.pseudoClassStateChanged(getTheme().getPseudoClass(), true);
+        }
+    };
+
+    private PendingSwitch pendingSwitch;
+
+    private ThemeEngine() {
+        baseStylesheet = Objects.requireNonNull(FileResource.load(BASE_STYLESHEET), "Base stylesheet not found");
+    }
+
+    /**
+     * Gets the application-wide theme engine. Must be called on the FX thread.
+     *
+     * @return The theme engine
+     */
+    public static ThemeEngine getInstance() {
+        if (instance == null) {
+            instance = new ThemeEngine();
+        }
+        return instance;
+    }
+
+    /**
+     * Attaches the base stylesheet and the current theme to a scene, and keeps the scene
+     * themed on later switches.
+     *
+     * @param scene The scene
+     */
+    public void install(Scene scene) {
+        if (scenes.put(scene, Boolean.TRUE) != null) {
+            return;
+        }
+        if (!scene.getStylesheets().contains(baseStylesheet)) {
+            scene.getStylesheets().add(0, baseStylesheet);
+        }
+        scene.getStylesheets().addAll(getTheme().getStylesheets());
+        if (scene.getRoot() != null) {
+            scene.getRoot().pseudoClassStateChanged(getTheme().getPseudoClass(), true);
+        }
+        scene.rootProperty().addListener(rootListener);
+    }
+
+    /**
+     * Removes the theme from a scene. The base stylesheet stays attached.
+     *
+     * @param scene The scene
+     */
+    public void uninstall(Scene scene) {
+        if (pendingSwitch != null) {
+            // Jangan tunggu pulse dari jendela yang sudah ditutup
+            pendingSwitch.release(scene);
+        }
+        if (scenes.remove(scene) == null) {
+            return;
+        }
+        scene.rootProperty().removeListener(rootListener);
+        scene.getStylesheets().removeAll(getTheme().getStylesheets());
+        if (scene.getRoot() != null) {
+            scene.getRoot().pseudoClassStateChanged(getTheme().getPseudoClass(), false);
+        }
+    }
+
+    /**
+     * Switches all installed scenes to the given theme. Must be called on the FX thread.
+     *
+     * @param newTheme The theme
+     */
+    public void setTheme(Theme newTheme) {
+        Objects.requireNonNull(newTheme, "Theme cannot be null");
+        Theme previous = getTheme();
+        if (previous == newTheme) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        List<Scene> targets = new ArrayList<>(scenes.keySet());
+        for (Scene scene : targets) {
+            // Ganti stylesheet hanya jika tema custom, tema bawaan cukup dengan pseudo-class
+            if (!previous.getStylesheets().isEmpty()) {
+                scene.getStylesheets().removeAll(previous.getStylesheets());
+            }
+            scene.getStylesheets().addAll(newTheme.getStylesheets());
+
+            Parent root = scene.getRoot();
+            if (root != null) {
+                root.pseudoClassStateChanged(previous.getPseudoClass(), false);
+                root.pseudoClassStateChanged(newTheme.getPseudoClass(), true);
+            }
+        }
+        theme.set(newTheme);
+        long applied = System.nanoTime();
+
+        if (pendingSwitch != null) {
+            pendingSwitch.cancel();
+        }
+        pendingSwitch = new PendingSwitch(previous, newTheme, targets.size(), start, applied);
+        pendingSwitch.await(targets);
+    }
+
+    /**
+     * The theme currently applied.
+     *
+     * @return The read-only theme property
+     */
+    public ReadOnlyObjectProperty<Theme> themeProperty() {
+        return theme.getReadOnlyProperty();
+    }
+
+    /**
+     * Gets the theme currently applied.
+     *
+     * @return The current theme
+     */
+    public Theme getTheme() {
+        return theme.get();
+    }
+
+    /**
+     * The timing of the most recent theme switch, updated once the switch has been rendered.
+     *
+     * @return The read-only report property
+     */
+    public ReadOnlyObjectProperty<ThemeSwitchReport> lastSwitchProperty() {
+        return lastSwitch.getReadOnlyProperty();
+    }
+
+    /**
+     * Gets the timing of the most recent theme switch.
+     *
+     * @return The report, or null if no switch has completed yet
+     */
+    public ThemeSwitchReport getLastSwitch() {
+        return lastSwitch.get();
+    }
+
+    /**
+     * Waits for the pulse that renders a switch, then publishes its report.
+     */
+    private final class PendingSwitch {
+        private final Theme previous;
+        private final Theme next;
+        private final int sceneCount;
+        private final long start;
+        private final long applied;
+        private final Map<Scene, Waiter> waiting = new HashMap<>();
+
+        PendingSwitch(Theme previous, Theme next, int sceneCount, long start, long applied) {
+            this.previous = previous;
+            this.next = next;
+            this.sceneCount = sceneCount;
+            this.start = start;
+            this.applied = applied;
+        }
+
+        void await(List<Scene> targets) {
+            for (Scene scene : targets) {
+                Window window = scene.getWindow();
+                if (window == null || !window.isShowing()) {
+                    continue;
+                }
+                // Jendela yang disembunyikan sebelum pulse berikutnya tidak akan memanggil listener
+                Waiter waiter = new Waiter(window, () -> release(scene), event -> release(scene));
+                waiting.put(scene, waiter);
+                scene.addPostLayoutPulseListener(waiter.pulseListener());
+                window.addEventHandler(WindowEvent.WINDOW_HIDDEN, waiter.hiddenHandler());
+            }
+
+            if (waiting.isEmpty()) {
+                finish();
+            } else {
+                Platform.requestNextPulse();
+            }
+        }
+
+        /**
+         * Stops waiting for a scene, and publishes the report if it was the last one.
+         *
+         * @param scene The scene that rendered the switch or went away
+         */
+        void release(Scene scene) {
+            Waiter waiter = waiting.remove(scene);
+            if (waiter == null) {
+                return;
+            }
+            waiter.detach(scene);
+            if (waiting.isEmpty()) {
+                finish();
+            }
+        }
+
+        void cancel() {
+            waiting.forEach((scene, waiter) -> waiter.detach(scene));
+            waiting.clear();
+        }
+
+        private void finish() {
+            long end = System.nanoTime();
+            if (pendingSwitch == this) {
+                pendingSwitch = null;
+            }
+            ThemeSwitchReport report = new ThemeSwitchReport(previous, next, sceneCount,
+                    Duration.millis((applied - start) / 1_000_000.0),
+                    Duration.millis((end - start) / 1_000_000.0));
+            lastSwitch.set(report);
+            LOGGER.log(Level.FINE, "Theme switched to {0} on {1} scene(s) in {2} ms", new Object[]{
+                    next.getName(), sceneCount, report.totalTime().toMillis()});
+        }
+    }
+
+    /**
+     * The listeners through which a pending switch waits for one scene.
+     *
+     * @param window The window of the scene
+     * @param pulseListener Called after the scene's next layout pass
+     * @param hiddenHandler Called when the window is hidden first
+     */
+    private record Waiter(Window window, Runnable pulseListener, EventHandler<WindowEvent> hiddenHandler) {
+        void detach(Scene scene) {
+            scene.removePostLayoutPulseListener(pulseListener);
+            window.removeEventHandler(WindowEvent.WINDOW_HIDDEN, hiddenHandler);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package id.alphareso.meidofx.base.themes;
+
+import javafx.util.Duration;
+
+/**
+ * Timing of one theme switch.
+ *
+ * @param previous The theme that was active before the switch
+ * @param theme The new theme
+ * @param sceneCount The number of scenes the theme was applied to
+ * @param applyTime Time spent updating stylesheets and pseudo-classes
+ * @param totalTime Time from the start of the switch until the following pulse finished
+ *                  CSS and layout of all showing scenes
+ */
+public record ThemeSwitchReport(Theme previous, Theme theme, int sceneCount, Duration applyTime, Duration totalTime) {
+}
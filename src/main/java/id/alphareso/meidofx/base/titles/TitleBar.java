@@ -1,21 +1,28 @@
 package id.alphareso.meidofx.base.titles;
 
 import id.alphareso.meidofx.base.controls.WindowControlButtons;
+import id.alphareso.meidofx.base.diagnostics.LayoutProfiler;
+import id.alphareso.meidofx.base.diagnostics.TitleBarEvent;
+import id.alphareso.meidofx.base.enums.ControlGlyphStyle;
 import id.alphareso.meidofx.base.enums.TitleBarStyle;
 import id.alphareso.meidofx.base.handlers.WindowDragHandler;
 import id.alphareso.meidofx.base.stages.BaseStage;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
+import javafx.scene.control.CheckMenuItem;
+import javafx.scene.control.ContextMenu;
 import javafx.scene.control.Label;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
+import javafx.scene.input.ContextMenuEvent;
 import javafx.scene.layout.*;
 import javafx.scene.paint.Color;
 import javafx.stage.Stage;
-import id.alphareso.meidofx.util.FileResource; // Asumsi FileResource menangani path dengan benar
+import id.alphareso.meidofx.util.ImageLoader;
+import id.alphareso.meidofx.util.PaintCache;
 
-import java.io.InputStream;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -27,9 +34,17 @@ public class TitleBar extends StackPane {
 
     private static final Logger LOGGER = Logger.getLogger(TitleBar.class.getName());
 
+    /**
+     * The style class every title bar carries. Themes style the title bar through it.
+     */
+    public static final String DEFAULT_STYLE_CLASS = "title-bar";
+
     // Konstanta untuk styling dan ukuran
     private static final double DEFAULT_SPACING = 10;
-    private static final double DEFAULT_ICON_SIZE = 20;
+    /**
+     * The size of the icon shown in the title bar.
+     */
+    public static final double DEFAULT_ICON_SIZE = 20;
     private static final double MIN_TITLE_BAR_HEIGHT = 30; // Ketinggian minimal TitleBar
     private static final double PREF_TITLE_BAR_HEIGHT = 60; // Ketinggian preferensi TitleBar
 
@@ -44,6 +59,8 @@ public class TitleBar extends StackPane {
     private final WindowDragHandler dragRegion;
 
     private TitleBarStyle currentTitleBarStyle;
+    private ContextMenu contextMenu;
+    private CheckMenuItem performanceHudItem;
 
     /**
      * Creates a new title bar for the specified stage with default {@link TitleBarStyle#ALL} style.
@@ -61,23 +78,39 @@ public class TitleBar extends StackPane {
      * @param initialStyle The initial title bar style to apply
      */
     public TitleBar(BaseStage stage, TitleBarStyle initialStyle) {
+        this(stage, initialStyle, ControlGlyphStyle.RASTER);
+    }
+
+    /**
+     * Creates a new title bar for the specified stage with the given style and control glyphs.
+     *
+     * @param stage The stage this title bar will control
+     * @param initialStyle The initial title bar style to apply
+     * @param glyphStyle Whether the control buttons use raster icons or vector glyphs
+     */
+    public TitleBar(BaseStage stage, TitleBarStyle initialStyle, ControlGlyphStyle glyphStyle) {
         Objects.requireNonNull(stage, "Stage cannot be null");
         Objects.requireNonNull(initialStyle, "Initial TitleBarStyle cannot be null");
+        Objects.requireNonNull(glyphStyle, "ControlGlyphStyle cannot be null");
+        TitleBarEvent event = new TitleBarEvent();
+        event.begin();
 
         this.stage = stage;
 
         // Setup dasar TitleBar (StackPane ini sendiri)
         this.setMinHeight(MIN_TITLE_BAR_HEIGHT);
         this.setPrefHeight(PREF_TITLE_BAR_HEIGHT);
-        this.getStyleClass().add("title-bar"); // Untuk styling via CSS
+        this.getStyleClass().add(DEFAULT_STYLE_CLASS); // Untuk styling via CSS
 
         // Content Pane menggunakan BorderPane
         contentPane = new BorderPane();
-        contentPane.setBackground(new Background(new BackgroundFill(
+        contentPane.getStyleClass().add("title-bar-content");
+        // Fallback jika scene tidak memakai stylesheet tema
+        contentPane.setBackground(PaintCache.background(
                 Color.rgb(240, 100, 20),
-                new CornerRadii(10,10,0,0,false),
+                PaintCache.radii(10, 10, 0, 0),
                 Insets.EMPTY
-        )));
+        ));
         contentPane.setPadding(new Insets(5 ));
 
         // Left container (icon and title)
@@ -102,7 +135,8 @@ public class TitleBar extends StackPane {
         // Center container
         centerContainer = new WindowDragHandler(stage);
         centerContainer.setMinWidth(Region.USE_COMPUTED_SIZE);
-        centerContainer.setStyle("-fx-background-color: rgba(0,0,0,0.25);");
+        centerContainer.getStyleClass().add("title-bar-drag-area");
+        centerContainer.setBackground(PaintCache.background(Color.rgb(0, 0, 0, 0.25)));
         // Enable window dragging on this center Container
         dragRegion = new WindowDragHandler(stage);
         dragRegion.enableDrag(centerContainer);
@@ -116,7 +150,7 @@ public class TitleBar extends StackPane {
         // Spacing di WindowControlButtons sudah diatur secara internal jika diperlukan
         rightContainer.setSpacing(DEFAULT_SPACING);
 
-        controlButtons = new WindowControlButtons(stage);
+        controlButtons = new WindowControlButtons(stage, glyphStyle);
         rightContainer.getChildren().add(controlButtons);
         contentPane.setRight(rightContainer);
 
@@ -124,6 +158,54 @@ public class TitleBar extends StackPane {
         this.getChildren().add(contentPane);
         // Terapkan style awal
         setTitleBarStyle(initialStyle);
+
+        // Menu konteks dibuat saat pertama kali diminta
+        this.setOnContextMenuRequested(this::showContextMenu);
+
+        stage.addDisposeHook(this::dispose);
+
+        if (event.shouldCommit()) {
+            event.action = TitleBarEvent.CREATE;
+            event.windowTitle = stage.getTitle();
+            event.style = initialStyle.name();
+            event.commit();
+        }
+    }
+
+    /**
+     * Gets the context menu of the title bar, creating it on first use. It contains an item
+     * that toggles the {@link BaseStage#setPerformanceHudVisible(boolean) performance HUD};
+     * applications may add their own items.
+     *
+     * @return The context menu
+     */
+    public ContextMenu getContextMenu() {
+        if (contextMenu == null) {
+            performanceHudItem = new CheckMenuItem("Performance HUD");
+            performanceHudItem.setOnAction(event -> stage.setPerformanceHudVisible(performanceHudItem.isSelected()));
+            contextMenu = new ContextMenu(performanceHudItem);
+            contextMenu.setOnShowing(event -> performanceHudItem.setSelected(stage.isPerformanceHudVisible()));
+        }
+        return contextMenu;
+    }
+
+    private void showContextMenu(ContextMenuEvent event) {
+        getContextMenu().show(this, event.getScreenX(), event.getScreenY());
+        event.consume();
+    }
+
+    /**
+     * Releases the binding to the stage title, any pending icon load, the control button
+     * actions and the context menu. Called automatically when the stage is disposed.
+     */
+    public void dispose() {
+        titleLabel.textProperty().unbind();
+        ImageLoader.cancel(iconView);
+        iconView.setImage(null);
+        controlButtons.dispose();
+        if (contextMenu != null) {
+            contextMenu.hide();
+        }
     }
 
     /**
@@ -133,6 +215,9 @@ public class TitleBar extends StackPane {
      */
     public void setTitleBarStyle(TitleBarStyle newStyle) {
         Objects.requireNonNull(newStyle, "TitleBarStyle cannot be null");
+        TitleBarEvent event = new TitleBarEvent();
+        event.begin();
+        TitleBarStyle previousStyle = currentTitleBarStyle;
         this.currentTitleBarStyle = newStyle;
 
         leftContainer.setVisible(currentTitleBarStyle.showLeftComponents());
@@ -143,6 +228,14 @@ public class TitleBar extends StackPane {
 
         // Jika kedua komponen tidak ada, kita mungkin ingin memastikan titlebar tetap memiliki tinggi minimal
         // dan bisa di-drag. Ini sudah ditangani oleh setMinHeight pada TitleBar StackPane.
+
+        if (event.shouldCommit()) {
+            event.action = TitleBarEvent.STYLE_CHANGE;
+            event.windowTitle = stage.getTitle();
+            event.previousStyle = previousStyle != null ? previousStyle.name() : null;
+            event.style = newStyle.name();
+            event.commit();
+        }
     }
 
     /**
@@ -160,13 +253,15 @@ public class TitleBar extends StackPane {
      * @param image The icon image. If null, the icon will be cleared.
      */
     public void setIcon(Image image) {
+        ImageLoader.cancel(iconView);
         iconView.setImage(image);
         showIcon(image != null && currentTitleBarStyle.showLeftComponents()); // Hanya tampil jika style mengizinkan
     }
 
     /**
      * Sets the icon for the title bar from the specified resource path.
-     * Pastikan path diawali dengan "/" untuk memuat dari root classpath jika menggunakan FileResource.
+     * The image is decoded in the background; a placeholder of the icon size is shown until it is ready.
+     * Pastikan path diawali dengan "/" untuk memuat dari root classpath jika menggunakan ImageLoader.
      *
      * @param path The resource path to the icon image (e.g., "/images/icon.png")
      */
@@ -175,17 +270,14 @@ public class TitleBar extends StackPane {
             setIcon((Image) null);
             return;
         }
-        try (InputStream imageStream = FileResource.loadStream(path)) { // Menggunakan FileResource
-            if (imageStream != null) {
-                setIcon(new Image(imageStream));
-            } else {
-                LOGGER.log(Level.WARNING, "Could not load icon from path: {0}. Stream is null.", path);
-                setIcon((Image) null);
+        CompletableFuture<Image> loading = ImageLoader.loadInto(iconView, path, DEFAULT_ICON_SIZE, DEFAULT_ICON_SIZE);
+        showIcon(currentTitleBarStyle.showLeftComponents());
+        loading.thenAccept(image -> {
+            if (image == null) {
+                LOGGER.log(Level.WARNING, "Could not load icon from path: {0}", path);
             }
-        } catch (Exception e) {
-            LOGGER.log(Level.SEVERE, "Error loading icon from path: " + path, e);
-            setIcon((Image) null);
-        }
+            showIcon(currentTitleBarStyle.showLeftComponents());
+        });
     }
 
     /**
@@ -235,7 +327,8 @@ public class TitleBar extends StackPane {
 
     /**
      * Sets the CSS style for the background of this TitleBar.
-     * This directly calls {@link #setStyle(String)}.
+     * This directly calls {@link #setStyle(String)}. Inline styles are parsed per node; prefer
+     * a style class on the title bar styled by a theme stylesheet.
      *
      * @param cssStyle CSS style string for the background (e.g., "-fx-background-color: #336699;")
      */
@@ -261,4 +354,47 @@ public class TitleBar extends StackPane {
     public ImageView getIconView() {
         return iconView;
     }
+
+    @Override
+    protected void layoutChildren() {
+        LayoutProfiler profiler = LayoutProfiler.getActive();
+        if (profiler == null) {
+            super.layoutChildren();
+            return;
+        }
+        long start = profiler.enter();
+        try {
+            super.layoutChildren();
+        } finally {
+            profiler.layoutFinished(this, start);
+        }
+    }
+
+    @Override
+    protected double computePrefWidth(double height) {
+        LayoutProfiler profiler = LayoutProfiler.getActive();
+        if (profiler == null) {
+            return super.computePrefWidth(height);
+        }
+        long start = profiler.enter();
+        try {
+            return super.computePrefWidth(height);
+        } finally {
+            profiler.prefSizeFinished(this, start);
+        }
+    }
+
+    @Override
+    protected double computePrefHeight(double width) {
+        LayoutProfiler profiler = LayoutProfiler.getActive();
+        if (profiler == null) {
+            return super.computePrefHeight(width);
+        }
+        long start = profiler.enter();
+        try {
+            return super.computePrefHeight(width);
+        } finally {
+            profiler.prefSizeFinished(this, start);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package id.alphareso.meidofx.base.workspace;
+
+import id.alphareso.meidofx.base.stages.RoundStage;
+
+/**
+ * Builds the window for a saved {@link WindowState} during a workspace restore.
+ * <p>
+ * The materializer creates the stage, its title bar (with the saved style) and content, and
+ * navigates to the saved view. Bounds and the maximized state are applied by the
+ * {@link Workspace} before the stage is shown.
+ */
+@FunctionalInterface
+public interface WindowMaterializer {
+    /**
+     * Builds the window for a saved state.
+     *
+     * @param state The saved state
+     * @return The new, not yet shown stage
+     */
+    RoundStage materialize(WindowState state);
+}
@@ -0,0 +1,22 @@
+package id.alphareso.meidofx.base.workspace;
+
+import id.alphareso.meidofx.base.enums.TitleBarStyle;
+
+/**
+ * Saved state of one workspace window.
+ *
+ * @param id The window id, unique within the workspace
+ * @param x The window x position
+ * @param y The window y position
+ * @param width The window width
+ * @param height The window height
+ * @param maximized Whether the window was maximized
+ * @param iconified Whether the window was minimized
+ * @param focused Whether the window had focus
+ * @param titleBarStyle The title bar style, or null if the window has no {@code TitleBar}
+ * @param viewKey The key of the content view shown by the window's router, or null
+ */
+public record WindowState(String id, double x, double y, double width, double height,
+                          boolean maximized, boolean iconified, boolean focused,
+                          TitleBarStyle titleBarStyle, String viewKey) {
+}
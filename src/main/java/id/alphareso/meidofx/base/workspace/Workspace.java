@@ -0,0 +1,444 @@
+package id.alphareso.meidofx.base.workspace;
+
+import id.alphareso.meidofx.base.stages.ContentRouter;
+import id.alphareso.meidofx.base.stages.RoundStage;
+import id.alphareso.meidofx.base.titles.TitleBar;
+import javafx.animation.AnimationTimer;
+import javafx.animation.PauseTransition;
+import javafx.beans.InvalidationListener;
+import javafx.beans.value.ChangeListener;
+import javafx.event.EventHandler;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.Region;
+import javafx.util.Duration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Saves and restores a set of {@link RoundStage} windows.
+ * <p>
+ * Tracked windows are saved to a compact binary file whenever their bounds, maximized,
+ * minimized or focus state, or the view of their content router change. Saves are debounced,
+ * so a drag or resize results in a single write after the window comes to rest, and the file
+ * is written on a background thread.
+ * <p>
+ * {@link #restore(WindowMaterializer)} builds the window that had focus right away. The other
+ * windows are materialized one per pulse afterwards, visible windows before minimized ones, or
+ * immediately when requested through {@link #materialize(String)}. Once the last one is shown,
+ * focus goes back to the first window, unless the user clicked a restored window in the
+ * meantime. Windows that are not materialized yet keep their saved state in later snapshots.
+ * <p>
+ * All methods must be called on the JavaFX Application Thread.
+ */
+public class Workspace {
+    private static final Logger LOGGER = Logger.getLogger(Workspace.class.getName());
+
+    public static final Duration DEFAULT_SAVE_DELAY = Duration.millis(500);
+
+    private static final ExecutorService WRITER = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "meidofx-workspace-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Path file;
+    private final Map<String, TrackedWindow> tracked = new LinkedHashMap<>();
+    private final Map<String, WindowState> pending = new LinkedHashMap<>();
+    private final PauseTransition saveTimer = new PauseTransition(DEFAULT_SAVE_DELAY);
+    private final AtomicReference<List<WindowState>> queuedSnapshot = new AtomicReference<>();
+    private final AtomicBoolean writeScheduled = new AtomicBoolean();
+    private final List<RoundStage> restoredStages = new ArrayList<>();
+    private final EventHandler<MouseEvent> restorePressFilter = event -> focusMovedByUser = true;
+    private final AnimationTimer materializeTimer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            materializeNext();
+        }
+    };
+
+    private WindowMaterializer materializer;
+    private String focusedId;
+    private boolean focusMovedByUser;
+    private long saveCount;
+
+    /**
+     * Creates a workspace stored in the given file.
+     *
+     * @param file The workspace file
+     */
+    public Workspace(Path file) {
+        this.file = Objects.requireNonNull(file, "File cannot be null");
+        saveTimer.setOnFinished(event -> save());
+    }
+
+    /**
+     * Starts saving the state of a window under the given id. The window stops being tracked
+     * when it is disposed.
+     *
+     * @param id The window id, unique within the workspace
+     * @param stage The window
+     */
+    public void track(String id, RoundStage stage) {
+        Objects.requireNonNull(id, "Id cannot be null");
+        Objects.requireNonNull(stage, "Stage cannot be null");
+        untrack(id);
+        pending.remove(id);
+        tracked.put(id, new TrackedWindow(id, stage));
+        scheduleSave();
+    }
+
+    /**
+     * Stops tracking a window and removes it from the workspace.
+     *
+     * @param id The window id
+     */
+    public void untrack(String id) {
+        TrackedWindow window = tracked.remove(id);
+        if (window != null) {
+            window.release();
+            scheduleSave();
+        }
+    }
+
+    /**
+     * Reads the workspace file and restores its windows. The window that had focus (or else
+     * the first visible one) is built and shown before this method returns; the others follow
+     * in later pulses.
+     *
+     * @param materializer Builds a window from its saved state
+     * @return The number of windows in the workspace file
+     */
+    public int restore(WindowMaterializer materializer) {
+        this.materializer = Objects.requireNonNull(materializer, "Materializer cannot be null");
+
+        List<WindowState> states;
+        try {
+            states = WorkspaceFile.read(file);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Could not read workspace: " + file, e);
+            return 0;
+        }
+
+        WindowState focused = null;
+        WindowState firstVisible = null;
+        for (WindowState state : states) {
+            if (tracked.containsKey(state.id())) {
+                continue;
+            }
+            pending.put(state.id(), state);
+            if (focused == null && state.focused()) {
+                focused = state;
+            }
+            if (firstVisible == null && !state.iconified()) {
+                firstVisible = state;
+            }
+        }
+
+        WindowState first = focused != null ? focused : firstVisible;
+        focusMovedByUser = false;
+        if (first != null) {
+            focusedId = first.id();
+            materialize(first.id());
+        }
+        if (!pending.isEmpty()) {
+            materializeTimer.start();
+        } else {
+            restoreFinished();
+        }
+        return states.size();
+    }
+
+    /**
+     * Builds and shows a window that is still pending from a restore. Returns the existing
+     * window if it is already materialized.
+     *
+     * @param id The window id
+     * @return The window, or null if the id is unknown
+     */
+    public RoundStage materialize(String id) {
+        WindowState state = pending.remove(id);
+        if (state == null) {
+            TrackedWindow window = tracked.get(id);
+            return window != null ? window.stage : null;
+        }
+        if (pending.isEmpty()) {
+            materializeTimer.stop();
+        }
+
+        RoundStage stage;
+        try {
+            stage = materializer.materialize(state);
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Could not restore window: " + id, e);
+            return null;
+        }
+
+        stage.setX(state.x());
+        stage.setY(state.y());
+        stage.setWidth(state.width());
+        stage.setHeight(state.height());
+        stage.setMaximized(state.maximized());
+        stage.show();
+        if (state.iconified()) {
+            stage.setIconified(true);
+        }
+
+        track(id, stage);
+        if (focusedId != null) {
+            // Klik pengguna selama restore berarti fokus sudah dipilih pengguna
+            stage.addEventFilter(MouseEvent.MOUSE_PRESSED, restorePressFilter);
+            restoredStages.add(stage);
+        }
+        return stage;
+    }
+
+    /**
+     * Gets the ids of the windows that are restored but not materialized yet.
+     *
+     * @return The pending ids
+     */
+    public Set<String> getPendingIds() {
+        return Collections.unmodifiableSet(new LinkedHashSet<>(pending.keySet()));
+    }
+
+    /**
+     * Gets a materialized window.
+     *
+     * @param id The window id
+     * @return The window, or null if it is not tracked
+     */
+    public RoundStage getStage(String id) {
+        TrackedWindow window = tracked.get(id);
+        return window != null ? window.stage : null;
+    }
+
+    /**
+     * Captures the current state of the workspace, including windows that are still pending.
+     *
+     * @return The window states
+     */
+    public List<WindowState> snapshot() {
+        List<WindowState> states = new ArrayList<>(tracked.size() + pending.size());
+        for (TrackedWindow window : tracked.values()) {
+            states.add(window.capture());
+        }
+        states.addAll(pending.values());
+        return states;
+    }
+
+    /**
+     * Schedules a save after the save delay. Further changes within the delay postpone it.
+     */
+    public void scheduleSave() {
+        saveTimer.playFromStart();
+    }
+
+    /**
+     * Saves the workspace now, e.g. when the application is about to exit.
+     *
+     * @return A future completed when the file has been written
+     */
+    public CompletableFuture<Void> saveNow() {
+        saveTimer.stop();
+        List<WindowState> snapshot = snapshot();
+        saveCount++;
+        return CompletableFuture.runAsync(() -> write(snapshot), WRITER);
+    }
+
+    /**
+     * Sets how long the workspace waits after the last change before saving.
+     *
+     * @param delay The save delay
+     */
+    public void setSaveDelay(Duration delay) {
+        saveTimer.setDuration(Objects.requireNonNull(delay, "Delay cannot be null"));
+    }
+
+    /**
+     * Gets how long the workspace waits after the last change before saving.
+     *
+     * @return The save delay
+     */
+    public Duration getSaveDelay() {
+        return saveTimer.getDuration();
+    }
+
+    /**
+     * Gets the number of snapshots taken for saving.
+     *
+     * @return The save count
+     */
+    public long getSaveCount() {
+        return saveCount;
+    }
+
+    /**
+     * Gets the workspace file.
+     *
+     * @return The file
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    private void save() {
+        queuedSnapshot.set(snapshot());
+        saveCount++;
+        // Snapshot yang belum ditulis cukup diganti, tidak perlu antre
+        if (writeScheduled.compareAndSet(false, true)) {
+            WRITER.execute(() -> {
+                writeScheduled.set(false);
+                List<WindowState> snapshot = queuedSnapshot.getAndSet(null);
+                if (snapshot != null) {
+                    write(snapshot);
+                }
+            });
+        }
+    }
+
+    private void write(List<WindowState> snapshot) {
+        try {
+            WorkspaceFile.write(file, snapshot);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Could not save workspace: " + file, e);
+        }
+    }
+
+    private void materializeNext() {
+        if (pending.isEmpty()) {
+            materializeTimer.stop();
+            return;
+        }
+        // Visible windows first, minimized ones last
+        String next = null;
+        for (Iterator<WindowState> it = pending.values().iterator(); it.hasNext() && next == null; ) {
+            WindowState state = it.next();
+            if (!state.iconified()) {
+                next = state.id();
+            }
+        }
+        materialize(next != null ? next : pending.keySet().iterator().next());
+        if (pending.isEmpty()) {
+            restoreFinished();
+        }
+    }
+
+    private void restoreFinished() {
+        // Jendela yang tampil belakangan tidak boleh mengambil fokus dari jendela utama
+        RoundStage focusedStage = focusedId != null ? getStage(focusedId) : null;
+        if (!focusMovedByUser && focusedStage != null && focusedStage.isShowing()
+                && !focusedStage.isIconified() && !focusedStage.isFocused()) {
+            focusedStage.toFront();
+            focusedStage.requestFocus();
+        }
+        for (RoundStage stage : restoredStages) {
+            stage.removeEventFilter(MouseEvent.MOUSE_PRESSED, restorePressFilter);
+        }
+        restoredStages.clear();
+        focusedId = null;
+    }
+
+    /**
+     * Listens to one tracked window and remembers its bounds outside the maximized state.
+     */
+    private final class TrackedWindow {
+        private final String id;
+        private final RoundStage stage;
+        private final InvalidationListener changeListener = observable -> onChanged();
+        private final ChangeListener<ContentRouter> routerListener = (obs, oldRouter, newRouter) -> {
+            if (oldRouter != null) {
+                oldRouter.currentKeyProperty().removeListener(changeListener);
+            }
+            if (newRouter != null) {
+                newRouter.currentKeyProperty().addListener(changeListener);
+            }
+        };
+        private final Runnable disposeHook;
+
+        private double x;
+        private double y;
+        private double width;
+        private double height;
+
+        TrackedWindow(String id, RoundStage stage) {
+            this.id = id;
+            this.stage = stage;
+            rememberBounds();
+
+            stage.xProperty().addListener(changeListener);
+            stage.yProperty().addListener(changeListener);
+            stage.widthProperty().addListener(changeListener);
+            stage.heightProperty().addListener(changeListener);
+            stage.maximizedProperty().addListener(changeListener);
+            stage.iconifiedProperty().addListener(changeListener);
+            stage.focusedProperty().addListener(changeListener);
+            // Router dibuat oleh stage LAZY saat pertama dipakai; jangan buat di sini, tunggu lewat property
+            ContentRouter router = stage.contentRouterProperty().get();
+            if (router != null) {
+                router.currentKeyProperty().addListener(changeListener);
+            }
+            stage.contentRouterProperty().addListener(routerListener);
+
+            disposeHook = () -> untrack(id);
+            stage.addDisposeHook(disposeHook);
+        }
+
+        void release() {
+            stage.xProperty().removeListener(changeListener);
+            stage.yProperty().removeListener(changeListener);
+            stage.widthProperty().removeListener(changeListener);
+            stage.heightProperty().removeListener(changeListener);
+            stage.maximizedProperty().removeListener(changeListener);
+            stage.iconifiedProperty().removeListener(changeListener);
+            stage.focusedProperty().removeListener(changeListener);
+            stage.contentRouterProperty().removeListener(routerListener);
+            ContentRouter router = stage.contentRouterProperty().get();
+            if (router != null) {
+                router.currentKeyProperty().removeListener(changeListener);
+            }
+            stage.removeDisposeHook(disposeHook);
+        }
+
+        WindowState capture() {
+            if (!stage.isMaximized() && !stage.isIconified()) {
+                rememberBounds();
+            }
+            Region titleBar = stage.getTitleBar();
+            return new WindowState(id, x, y, width, height,
+                    stage.isMaximized(), stage.isIconified(), stage.isFocused(),
+                    titleBar instanceof TitleBar bar ? bar.getTitleBarStyle() : null,
+                    stage.hasContentRouter() ? stage.getContentRouter().getCurrentKey() : null);
+        }
+
+        private void onChanged() {
+            if (!stage.isMaximized() && !stage.isIconified()) {
+                rememberBounds();
+            }
+            scheduleSave();
+        }
+
+        private void rememberBounds() {
+            x = stage.getX();
+            y = stage.getY();
+            width = stage.getWidth();
+            height = stage.getHeight();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package id.alphareso.meidofx.base.workspace;
+
+import id.alphareso.meidofx.base.enums.TitleBarStyle;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Compact binary format of a workspace snapshot.
+ * <p>
+ * Layout: magic, version, window count, then per window its id, bounds as floats, a flag byte
+ * and the optional title bar style ordinal and view key. Files are replaced atomically so a
+ * crash during a write never leaves a truncated snapshot behind.
+ */
+final class WorkspaceFile {
+    private static final int MAGIC = 0x4D465857; // "MFXW"
+    private static final int VERSION = 1;
+
+    private static final int FLAG_MAXIMIZED = 1;
+    private static final int FLAG_ICONIFIED = 1 << 1;
+    private static final int FLAG_FOCUSED = 1 << 2;
+    private static final int FLAG_STYLE = 1 << 3;
+    private static final int FLAG_VIEW = 1 << 4;
+
+    private static final TitleBarStyle[] STYLES = TitleBarStyle.values();
+
+    private WorkspaceFile() {}
+
+    static List<WindowState> read(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a workspace file: " + file);
+            }
+            int version = in.readUnsignedByte();
+            if (version != VERSION) {
+                throw new IOException("Unsupported workspace version " + version + ": " + file);
+            }
+
+            int count = in.readUnsignedShort();
+            List<WindowState> states = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                String id = in.readUTF();
+                double x = in.readFloat();
+                double y = in.readFloat();
+                double width = in.readFloat();
+                double height = in.readFloat();
+                int flags = in.readUnsignedByte();
+
+                TitleBarStyle style = null;
+                if ((flags & FLAG_STYLE) != 0) {
+                    int ordinal = in.readUnsignedByte();
+                    style = ordinal < STYLES.length ? STYLES[ordinal] : TitleBarStyle.ALL;
+                }
+                String viewKey = (flags & FLAG_VIEW) != 0 ? in.readUTF() : null;
+
+                states.add(new WindowState(id, x, y, width, height,
+                        (flags & FLAG_MAXIMIZED) != 0,
+                        (flags & FLAG_ICONIFIED) != 0,
+                        (flags & FLAG_FOCUSED) != 0,
+                        style, viewKey));
+            }
+            return states;
+        } catch (NoSuchFileException e) {
+            return Collections.emptyList();
+        }
+    }
+
+    static void write(Path file, List<WindowState> states) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeShort(states.size());
+            for (WindowState state : states) {
+                out.writeUTF(state.id());
+                // Float precision is plenty for screen coordinates
+                out.writeFloat((float) state.x());
+                out.writeFloat((float) state.y());
+                out.writeFloat((float) state.width());
+                out.writeFloat((float) state.height());
+
+                int flags = (state.maximized() ? FLAG_MAXIMIZED : 0)
+                        | (state.iconified() ? FLAG_ICONIFIED : 0)
+                        | (state.focused() ? FLAG_FOCUSED : 0)
+                        | (state.titleBarStyle() != null ? FLAG_STYLE : 0)
+                        | (state.viewKey() != null ? FLAG_VIEW : 0);
+                out.writeByte(flags);
+                if (state.titleBarStyle() != null) {
+                    out.writeByte(state.titleBarStyle().ordinal());
+                }
+                if (state.viewKey() != null) {
+                    out.writeUTF(state.viewKey());
+                }
+            }
+        }
+
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            // Tidak semua file system mendukung atomic move
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
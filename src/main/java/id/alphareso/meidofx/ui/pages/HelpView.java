@@ -15,7 +15,7 @@ public class HelpView extends VBox {
         getStyleClass().add("help-view");
 
         Label title = new Label("Help & Support");
-        title.setStyle("-fx-font-size: 20px; -fx-font-weight: bold;");
+        title.getStyleClass().add("help-title");
 
         Label description = new Label("This dialog provides information and guidance about using the MeidoFX application.");
         description.setWrapText(true);
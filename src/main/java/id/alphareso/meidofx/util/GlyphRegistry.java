@@ -0,0 +1,149 @@
+package id.alphareso.meidofx.util;
+
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Paint;
+import javafx.scene.shape.SVGPath;
+import javafx.scene.shape.Shape;
+import org.kordamp.ikonli.Ikon;
+import org.kordamp.ikonli.javafx.FontIcon;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Process-wide registry of vector glyph shapes for the window chrome.
+ * <p>
+ * Each SVG path or ikonli glyph is parsed once and the resulting {@link Shape} is shared by
+ * every window, as the {@link Region#setShape(Shape) shape} of a region. A region only uses
+ * the geometry of its shape and scales it to its own size, so a glyph stays crisp at any render
+ * scale. Shared shapes must be treated as immutable; do not restyle or modify them.
+ * <p>
+ * Ikonli glyphs are converted to a plain outline path, so they do not depend on the icon font
+ * or CSS once registered.
+ */
+public final class GlyphRegistry {
+    /**
+     * Name of the diagonal lines glyph used by the resize grip.
+     */
+    public static final String RESIZE_GRIP = "resize-grip";
+
+    private static final String RESIZE_GRIP_SVG_PATH = "M542.72 884.053333l341.333333-341.333333a32 32 0 0 1 47.445334 42.816l-2.197334 2.432-341.333333 341.333333a32 32 0 0 1-47.466667-42.837333l2.197334-2.432 341.333333-341.333333-341.333333 341.333333z m-437.333333-10.666666l778.666666-778.666667a32 32 0 0 1 47.445334 42.816l-2.197334 2.432-778.666666 778.666667a32 32 0 0 1-47.466667-42.837334l2.197333-2.432 778.666667-778.666666-778.666667 778.666666z";
+
+    private static final Map<String, String> SVG_SOURCES = new HashMap<>();
+    private static final Map<String, Shape> SHAPES = new HashMap<>();
+
+    private static long parseCount;
+
+    static {
+        SVG_SOURCES.put(RESIZE_GRIP, RESIZE_GRIP_SVG_PATH);
+    }
+
+    private GlyphRegistry() {}
+
+    /**
+     * Registers an SVG path under a name. The path is parsed on first use.
+     *
+     * @param name The glyph name
+     * @param svgContent The SVG path data
+     */
+    public static synchronized void register(String name, String svgContent) {
+        Objects.requireNonNull(name, "Name cannot be null");
+        Objects.requireNonNull(svgContent, "SVG content cannot be null");
+        SVG_SOURCES.put(name, svgContent);
+    }
+
+    /**
+     * Gets the shared shape of a registered glyph.
+     *
+     * @param name The glyph name
+     * @return The shared shape
+     * @throws IllegalArgumentException if no glyph is registered under the name
+     */
+    public static synchronized Shape get(String name) {
+        String svgContent = SVG_SOURCES.get(name);
+        if (svgContent == null) {
+            throw new IllegalArgumentException("No glyph registered for name: " + name);
+        }
+        return svgPath(svgContent);
+    }
+
+    /**
+     * Gets the shared shape of an SVG path.
+     *
+     * @param svgContent The SVG path data
+     * @return The shared shape
+     */
+    public static synchronized Shape svgPath(String svgContent) {
+        Objects.requireNonNull(svgContent, "SVG content cannot be null");
+        String key = "svg:" + svgContent;
+        Shape shape = SHAPES.get(key);
+        if (shape == null) {
+            SVGPath path = new SVGPath();
+            path.setContent(svgContent);
+            shape = path;
+            SHAPES.put(key, shape);
+            parseCount++;
+        }
+        return shape;
+    }
+
+    /**
+     * Gets the shared outline shape of an ikonli glyph.
+     *
+     * @param ikon The glyph, e.g. {@code Feather.X}
+     * @return The shared shape
+     */
+    public static synchronized Shape ikon(Ikon ikon) {
+        Objects.requireNonNull(ikon, "Ikon cannot be null");
+        String key = "ikon:" + ikon.getDescription();
+        Shape shape = SHAPES.get(key);
+        if (shape == null) {
+            FontIcon icon = new FontIcon(ikon);
+            // Union dengan dirinya sendiri menghasilkan Path outline, lepas dari font dan CSS
+            shape = Shape.union(icon, icon);
+            SHAPES.put(key, shape);
+            parseCount++;
+        }
+        return shape;
+    }
+
+    /**
+     * Creates a region that draws a shared glyph shape filled with the given paint.
+     *
+     * @param shape The glyph shape
+     * @param size The width and height of the glyph
+     * @param fill The glyph fill, or null to leave it to CSS
+     * @return A new glyph region with the style class "glyph"
+     */
+    public static Region createGlyph(Shape shape, double size, Paint fill) {
+        Region glyph = new Region();
+        glyph.setShape(shape);
+        glyph.setMinSize(size, size);
+        glyph.setPrefSize(size, size);
+        glyph.setMaxSize(size, size);
+        if (fill != null) {
+            glyph.setBackground(PaintCache.background(fill));
+        }
+        glyph.getStyleClass().add("glyph");
+        return glyph;
+    }
+
+    /**
+     * Gets the number of SVG paths and ikonli glyphs parsed so far.
+     *
+     * @return The parse count
+     */
+    public static synchronized long getParseCount() {
+        return parseCount;
+    }
+
+    /**
+     * Gets the number of shared shapes.
+     *
+     * @return The registry size
+     */
+    public static synchronized int getSize() {
+        return SHAPES.size();
+    }
+}
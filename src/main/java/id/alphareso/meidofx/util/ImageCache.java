@@ -0,0 +1,306 @@
+package id.alphareso.meidofx.util;
+
+import javafx.scene.image.Image;
+import javafx.stage.Screen;
+
+import java.lang.ref.SoftReference;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Process-wide cache of decoded images, keyed by resource path, requested size and render scale.
+ * <p>
+ * On HiDPI screens (render scale above 1) an {@code @2x} variant of the resource is used when
+ * one exists, e.g. {@code images/close-light@2x.png}. Sized requests are decoded at
+ * {@code size * renderScale} pixels so they stay sharp. Recently used images are held strongly
+ * up to a byte budget; images pushed out of the budget are kept through soft references and
+ * can still be reused until the garbage collector needs the memory.
+ * <p>
+ * The cache is thread-safe. Concurrent requests for an image that is not cached share one
+ * decode, and every request is counted once as a hit or a miss; {@link #peek} is not counted.
+ */
+public final class ImageCache {
+    private static final Logger LOGGER = Logger.getLogger(ImageCache.class.getName());
+
+    public static final long DEFAULT_MAX_RESIDENT_BYTES = 32L * 1024 * 1024;
+
+    private record Key(String path, double width, double height, double renderScale) {}
+
+    private static final LinkedHashMap<Key, Image> RESIDENT = new LinkedHashMap<>(32, 0.75f, true);
+    private static final Map<Key, SoftReference<Image>> SOFT = new HashMap<>();
+    private static final Map<Key, CompletableFuture<Image>> LOADING = new ConcurrentHashMap<>();
+
+    private static long maxResidentBytes = DEFAULT_MAX_RESIDENT_BYTES;
+    private static long residentBytes;
+    private static long hits;
+    private static long misses;
+    private static long decodeCount;
+
+    private ImageCache() {}
+
+    /**
+     * Gets an image at its natural size for the primary screen's render scale.
+     *
+     * @param path The resource path, e.g. "/images/icon.png"
+     * @return The image, or null if the resource cannot be loaded
+     */
+    public static Image get(String path) {
+        return get(path, 0, 0, defaultRenderScale());
+    }
+
+    /**
+     * Gets an image decoded for the given logical size on the primary screen.
+     *
+     * @param path The resource path
+     * @param width The logical width, or 0 for the natural width
+     * @param height The logical height, or 0 for the natural height
+     * @return The image, or null if the resource cannot be loaded
+     */
+    public static Image get(String path, double width, double height) {
+        return get(path, width, height, defaultRenderScale());
+    }
+
+    /**
+     * Gets an image decoded for the given logical size and render scale.
+     *
+     * @param path The resource path
+     * @param width The logical width, or 0 for the natural width
+     * @param height The logical height, or 0 for the natural height
+     * @param renderScale The output scale of the target screen or window
+     * @return The image, or null if the resource cannot be loaded
+     */
+    public static Image get(String path, double width, double height, double renderScale) {
+        Key key = key(path, width, height, renderScale);
+        Image image = lookup(key, true);
+        if (image != null) {
+            return image;
+        }
+        return loading(key, Runnable::run).join();
+    }
+
+    /**
+     * Gets an image, decoding it on the given executor if it is not cached. A decode of the same
+     * image that is already running is shared rather than started again.
+     *
+     * @param path The resource path
+     * @param width The logical width, or 0 for the natural width
+     * @param height The logical height, or 0 for the natural height
+     * @param renderScale The output scale of the target screen or window
+     * @param executor The executor running the decode
+     * @return A future completed with the image, or with null if it cannot be loaded; already
+     *         completed if the image is cached
+     */
+    static CompletableFuture<Image> getAsync(String path, double width, double height, double renderScale,
+                                             Executor executor) {
+        Key key = key(path, width, height, renderScale);
+        Image image = lookup(key, true);
+        if (image != null) {
+            return CompletableFuture.completedFuture(image);
+        }
+        return loading(key, executor);
+    }
+
+    /**
+     * Gets an image only if it is already cached. Peeking does not count as a hit or a miss.
+     *
+     * @param path The resource path
+     * @param width The logical width, or 0 for the natural width
+     * @param height The logical height, or 0 for the natural height
+     * @param renderScale The output scale of the target screen or window
+     * @return The cached image, or null
+     */
+    public static Image peek(String path, double width, double height, double renderScale) {
+        return lookup(key(path, width, height, renderScale), false);
+    }
+
+    /**
+     * Sets the byte budget for strongly held images. Images beyond the budget are only
+     * softly referenced.
+     *
+     * @param bytes The budget in bytes
+     */
+    public static synchronized void setMaxResidentBytes(long bytes) {
+        maxResidentBytes = bytes;
+        trim();
+    }
+
+    /**
+     * Gets the byte budget for strongly held images.
+     *
+     * @return The budget in bytes
+     */
+    public static synchronized long getMaxResidentBytes() {
+        return maxResidentBytes;
+    }
+
+    /**
+     * Gets the estimated memory held by strongly cached images (4 bytes per pixel).
+     *
+     * @return The resident bytes
+     */
+    public static synchronized long getResidentBytes() {
+        return residentBytes;
+    }
+
+    /**
+     * Gets the number of images decoded by the cache.
+     *
+     * @return The decode count
+     */
+    public static synchronized long getDecodeCount() {
+        return decodeCount;
+    }
+
+    /**
+     * Gets the number of requests served from the cache.
+     *
+     * @return The hit count
+     */
+    public static synchronized long getHitCount() {
+        return hits;
+    }
+
+    /**
+     * Gets the number of requests that were not served from the cache.
+     *
+     * @return The miss count
+     */
+    public static synchronized long getMissCount() {
+        return misses;
+    }
+
+    /**
+     * Drops all cached images. Images already in use stay valid.
+     */
+    public static synchronized void clear() {
+        RESIDENT.clear();
+        SOFT.clear();
+        residentBytes = 0;
+    }
+
+    /**
+     * Estimates the memory used by an image, assuming 4 bytes per pixel.
+     *
+     * @param image The image
+     * @return The estimated size in bytes
+     */
+    public static long byteSize(Image image) {
+        return (long) image.getWidth() * (long) image.getHeight() * 4L;
+    }
+
+    static double defaultRenderScale() {
+        return Screen.getPrimary().getOutputScaleX();
+    }
+
+    private static Key key(String path, double width, double height, double renderScale) {
+        String adjustedPath = path.startsWith("/") ? path : "/" + path;
+        return new Key(adjustedPath, Math.max(0, width), Math.max(0, height), renderScale);
+    }
+
+    private static synchronized Image lookup(Key key, boolean count) {
+        Image image = RESIDENT.get(key);
+        if (image == null) {
+            SoftReference<Image> reference = SOFT.remove(key);
+            image = reference != null ? reference.get() : null;
+            if (image != null) {
+                // Promote back into the resident set
+                RESIDENT.put(key, image);
+                residentBytes += byteSize(image);
+                trim();
+            }
+        }
+        if (!count) {
+            return image;
+        }
+        if (image != null) {
+            hits++;
+        } else {
+            misses++;
+        }
+        return image;
+    }
+
+    private static CompletableFuture<Image> loading(Key key, Executor executor) {
+        CompletableFuture<Image> created = new CompletableFuture<>();
+        CompletableFuture<Image> future = LOADING.computeIfAbsent(key, k -> created);
+        if (future == created) {
+            executor.execute(() -> decodeInto(key, created));
+        }
+        return future;
+    }
+
+    private static void decodeInto(Key key, CompletableFuture<Image> future) {
+        try {
+            // Decode lain bisa selesai di antara lookup dan pendaftaran future ini
+            Image image = lookup(key, false);
+            if (image == null) {
+                image = decode(key);
+                if (image != null) {
+                    store(key, image);
+                }
+            }
+            future.complete(image);
+        } catch (Throwable t) {
+            future.completeExceptionally(t);
+        } finally {
+            LOADING.remove(key, future);
+        }
+    }
+
+    private static synchronized void store(Key key, Image image) {
+        Image previous = RESIDENT.put(key, image);
+        if (previous != null) {
+            residentBytes -= byteSize(previous);
+        }
+        residentBytes += byteSize(image);
+        trim();
+    }
+
+    private static void trim() {
+        Iterator<Map.Entry<Key, Image>> it = RESIDENT.entrySet().iterator();
+        while (residentBytes > maxResidentBytes && it.hasNext()) {
+            Map.Entry<Key, Image> eldest = it.next();
+            it.remove();
+            residentBytes -= byteSize(eldest.getValue());
+            SOFT.put(eldest.getKey(), new SoftReference<>(eldest.getValue()));
+        }
+        SOFT.values().removeIf(reference -> reference.get() == null);
+    }
+
+    private static Image decode(Key key) {
+        // The @2x variant carries more detail, prefer it on HiDPI screens
+        String url = key.renderScale() > 1 ? FileResource.load(hiDpiVariant(key.path())) : null;
+        if (url == null) {
+            url = FileResource.load(key.path());
+        }
+        if (url == null) {
+            LOGGER.log(Level.WARNING, "Image resource not found: {0}", key.path());
+            return null;
+        }
+
+        boolean sized = key.width() > 0 || key.height() > 0;
+        Image image = sized
+                ? new Image(url, key.width() * key.renderScale(), key.height() * key.renderScale(), true, true)
+                : new Image(url);
+        synchronized (ImageCache.class) {
+            decodeCount++;
+        }
+        if (image.isError()) {
+            LOGGER.log(Level.WARNING, "Could not decode image: " + key.path(), image.getException());
+            return null;
+        }
+        return image;
+    }
+
+    private static String hiDpiVariant(String path) {
+        int dot = path.lastIndexOf('.');
+        return dot > path.lastIndexOf('/') ? path.substring(0, dot) + "@2x" + path.substring(dot) : path + "@2x";
+    }
+}
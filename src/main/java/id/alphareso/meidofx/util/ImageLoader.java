@@ -0,0 +1,196 @@
+package id.alphareso.meidofx.util;
+
+import javafx.application.Platform;
+import javafx.scene.Scene;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.WritableImage;
+import javafx.stage.Window;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Decodes images on a bounded pool of background threads and hands them to the FX thread.
+ * <p>
+ * Decoded images go through {@link ImageCache}, so an image that is already cached is applied
+ * immediately without a round trip to the pool. Concurrent requests for the same image share
+ * one decode, tracked by the cache. While an image is loading,
+ * {@link #loadInto(ImageView, String, double, double)} shows a transparent placeholder of the
+ * requested size so layout does not jump when the real image arrives.
+ */
+public final class ImageLoader {
+    private static final Object REQUEST_KEY = new Object();
+
+    private static final int POOL_SIZE = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(POOL_SIZE, new ThreadFactory() {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "meidofx-image-loader-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setPriority(Thread.NORM_PRIORITY - 1);
+            return thread;
+        }
+    });
+
+    private record Request(String path, double width, double height, double renderScale) {}
+
+    private static final Map<Request, Image> PLACEHOLDERS = new ConcurrentHashMap<>();
+
+    private ImageLoader() {}
+
+    /**
+     * Loads an image in the background for the primary screen's render scale.
+     *
+     * @param path The resource path
+     * @param width The logical width, or 0 for the natural width
+     * @param height The logical height, or 0 for the natural height
+     * @return A future completed with the image, or with null if it cannot be loaded
+     */
+    public static CompletableFuture<Image> load(String path, double width, double height) {
+        return load(path, width, height, ImageCache.defaultRenderScale());
+    }
+
+    /**
+     * Loads an image in the background. The returned future completes on a loader thread.
+     *
+     * @param path The resource path
+     * @param width The logical width, or 0 for the natural width
+     * @param height The logical height, or 0 for the natural height
+     * @param renderScale The output scale of the target screen or window
+     * @return A future completed with the image, or with null if it cannot be loaded
+     */
+    public static CompletableFuture<Image> load(String path, double width, double height, double renderScale) {
+        Objects.requireNonNull(path, "Path cannot be null");
+        return ImageCache.getAsync(path, width, height, renderScale, EXECUTOR);
+    }
+
+    /**
+     * Loads an image into an image view. If the image is cached it is set right away, otherwise
+     * a placeholder of the given size is shown and the image is swapped in on the FX thread once
+     * decoded. A later call for the same view, or {@link #cancel(ImageView)}, supersedes a
+     * pending load. Must be called on the FX thread.
+     *
+     * @param view The image view
+     * @param path The resource path
+     * @param width The logical width
+     * @param height The logical height
+     * @return A future completed on the FX thread with the image, or with null if it cannot be loaded
+     */
+    public static CompletableFuture<Image> loadInto(ImageView view, String path, double width, double height) {
+        Objects.requireNonNull(view, "ImageView cannot be null");
+        double renderScale = renderScale(view);
+
+        CompletableFuture<Image> loading = load(path, width, height, renderScale).exceptionally(t -> null);
+        if (loading.isDone()) {
+            Image cached = loading.join();
+            view.getProperties().remove(REQUEST_KEY);
+            view.setImage(cached);
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        Object token = new Object();
+        view.getProperties().put(REQUEST_KEY, token);
+        view.setImage(placeholder(width, height));
+
+        return loading.thenApplyAsync(image -> {
+            // Abaikan hasil jika view sudah meminta gambar lain
+            if (view.getProperties().get(REQUEST_KEY) == token) {
+                view.getProperties().remove(REQUEST_KEY);
+                view.setImage(image);
+            }
+            return image;
+        }, Platform::runLater);
+    }
+
+    /**
+     * Cancels a pending {@link #loadInto(ImageView, String, double, double)} for the view, so its
+     * result will not replace whatever image is set afterwards.
+     *
+     * @param view The image view
+     */
+    public static void cancel(ImageView view) {
+        view.getProperties().remove(REQUEST_KEY);
+    }
+
+    /**
+     * Decodes a list of images in parallel at their natural size, e.g. during startup.
+     *
+     * @param paths The resource paths
+     * @return A future completed when all images are loaded or have failed
+     */
+    public static CompletableFuture<Void> preload(String... paths) {
+        return preload(Arrays.asList(paths));
+    }
+
+    /**
+     * Decodes a list of images in parallel at their natural size, e.g. during startup.
+     *
+     * @param paths The resource paths
+     * @return A future completed when all images are loaded or have failed
+     */
+    public static CompletableFuture<Void> preload(Collection<String> paths) {
+        return preload(paths, 0, 0);
+    }
+
+    /**
+     * Decodes a list of images in parallel for the given logical size.
+     *
+     * @param paths The resource paths
+     * @param width The logical width, or 0 for the natural width
+     * @param height The logical height, or 0 for the natural height
+     * @return A future completed when all images are loaded or have failed
+     */
+    public static CompletableFuture<Void> preload(Collection<String> paths, double width, double height) {
+        double renderScale = ImageCache.defaultRenderScale();
+        List<CompletableFuture<Image>> futures = new ArrayList<>(paths.size());
+        for (String path : paths) {
+            futures.add(load(path, width, height, renderScale).exceptionally(t -> null));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+    }
+
+    /**
+     * Gets a shared transparent image of the given logical size, used while the real image loads.
+     *
+     * @param width The width
+     * @param height The height
+     * @return The placeholder image, or null if the size is not positive
+     */
+    public static Image placeholder(double width, double height) {
+        int w = (int) Math.ceil(width);
+        int h = (int) Math.ceil(height);
+        if (w <= 0 || h <= 0) {
+            return null;
+        }
+        return PLACEHOLDERS.computeIfAbsent(new Request("", w, h, 1), key -> new WritableImage(w, h));
+    }
+
+    /**
+     * Gets the number of background decode threads.
+     *
+     * @return The pool size
+     */
+    public static int getPoolSize() {
+        return POOL_SIZE;
+    }
+
+    private static double renderScale(ImageView view) {
+        Scene scene = view.getScene();
+        Window window = scene != null ? scene.getWindow() : null;
+        return window != null ? window.getOutputScaleX() : ImageCache.defaultRenderScale();
+    }
+}
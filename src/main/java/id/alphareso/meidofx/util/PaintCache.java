@@ -0,0 +1,194 @@
+package id.alphareso.meidofx.util;
+
+import javafx.geometry.Insets;
+import javafx.scene.layout.Background;
+import javafx.scene.layout.BackgroundFill;
+import javafx.scene.layout.Border;
+import javafx.scene.layout.BorderStroke;
+import javafx.scene.layout.BorderStrokeStyle;
+import javafx.scene.layout.BorderWidths;
+import javafx.scene.layout.CornerRadii;
+import javafx.scene.paint.Paint;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Process-wide cache of immutable chrome paint objects ({@link Background}, {@link Border} and
+ * {@link CornerRadii}). These objects are immutable, so identical requests share one instance.
+ * Handing the same instance to a region again is a no-op for its background/border property,
+ * which also avoids needless CSS and repaint invalidation when recolouring.
+ * <p>
+ * The cache is bounded and evicts the least recently used entries.
+ */
+public final class PaintCache {
+    private static final int MAX_ENTRIES = 512;
+
+    private static final Map<Object, Object> CACHE = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Object, Object> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    private static long hits;
+    private static long misses;
+
+    private PaintCache() {}
+
+    private record RadiiKey(double topLeft, double topRight, double bottomRight, double bottomLeft) {}
+
+    private record BackgroundKey(Paint fill, CornerRadii radii, Insets insets) {}
+
+    private record BorderKey(Paint stroke, CornerRadii radii, double width) {}
+
+    /**
+     * Gets uniform corner radii.
+     *
+     * @param radius The radius of all four corners
+     * @return The shared corner radii
+     */
+    public static CornerRadii radii(double radius) {
+        return radius == 0 ? CornerRadii.EMPTY : radii(radius, radius, radius, radius);
+    }
+
+    /**
+     * Gets corner radii with individual (absolute) radius per corner.
+     *
+     * @param topLeft The top-left radius
+     * @param topRight The top-right radius
+     * @param bottomRight The bottom-right radius
+     * @param bottomLeft The bottom-left radius
+     * @return The shared corner radii
+     */
+    public static synchronized CornerRadii radii(double topLeft, double topRight, double bottomRight, double bottomLeft) {
+        return radii(topLeft, topRight, bottomRight, bottomLeft, true);
+    }
+
+    /**
+     * Gets a single-fill background with square corners and no insets.
+     *
+     * @param fill The fill paint
+     * @return The shared background
+     */
+    public static Background background(Paint fill) {
+        return background(fill, CornerRadii.EMPTY, Insets.EMPTY);
+    }
+
+    /**
+     * Gets a single-fill background with uniform rounded corners and no insets.
+     *
+     * @param fill The fill paint
+     * @param radius The corner radius
+     * @return The shared background
+     */
+    public static synchronized Background background(Paint fill, double radius) {
+        // Radii diambil tanpa dihitung, agar satu permintaan tidak tercatat dua kali
+        CornerRadii radii = radius == 0 ? CornerRadii.EMPTY : radii(radius, radius, radius, radius, false);
+        return background(fill, radii, Insets.EMPTY);
+    }
+
+    /**
+     * Gets a single-fill background.
+     *
+     * @param fill The fill paint
+     * @param radii The corner radii, or null for square corners
+     * @param insets The fill insets, or null for none
+     * @return The shared background
+     */
+    public static synchronized Background background(Paint fill, CornerRadii radii, Insets insets) {
+        Objects.requireNonNull(fill, "Fill cannot be null");
+        BackgroundKey key = new BackgroundKey(fill,
+                radii != null ? radii : CornerRadii.EMPTY,
+                insets != null ? insets : Insets.EMPTY);
+        Background background = (Background) lookup(key);
+        if (background == null) {
+            background = new Background(new BackgroundFill(key.fill(), key.radii(), key.insets()));
+            CACHE.put(key, background);
+        }
+        return background;
+    }
+
+    /**
+     * Gets a solid single-stroke border.
+     *
+     * @param stroke The stroke paint
+     * @param radii The corner radii, or null for square corners
+     * @param width The stroke width
+     * @return The shared border
+     */
+    public static synchronized Border border(Paint stroke, CornerRadii radii, double width) {
+        Objects.requireNonNull(stroke, "Stroke cannot be null");
+        BorderKey key = new BorderKey(stroke, radii != null ? radii : CornerRadii.EMPTY, width);
+        Border border = (Border) lookup(key);
+        if (border == null) {
+            border = new Border(new BorderStroke(key.stroke(), BorderStrokeStyle.SOLID, key.radii(), new BorderWidths(width)));
+            CACHE.put(key, border);
+        }
+        return border;
+    }
+
+    /**
+     * Gets the number of requests served from the cache.
+     *
+     * @return The hit count
+     */
+    public static synchronized long getHitCount() {
+        return hits;
+    }
+
+    /**
+     * Gets the number of requests that created a new instance.
+     *
+     * @return The miss count
+     */
+    public static synchronized long getMissCount() {
+        return misses;
+    }
+
+    /**
+     * Gets the number of cached instances.
+     *
+     * @return The cache size
+     */
+    public static synchronized int getSize() {
+        return CACHE.size();
+    }
+
+    /**
+     * Resets the hit and miss counters.
+     */
+    public static synchronized void resetStatistics() {
+        hits = 0;
+        misses = 0;
+    }
+
+    /**
+     * Removes all cached instances. Instances already in use stay valid.
+     */
+    public static synchronized void clear() {
+        CACHE.clear();
+    }
+
+    private static CornerRadii radii(double topLeft, double topRight, double bottomRight, double bottomLeft,
+                                     boolean count) {
+        RadiiKey key = new RadiiKey(topLeft, topRight, bottomRight, bottomLeft);
+        CornerRadii radii = (CornerRadii) (count ? lookup(key) : CACHE.get(key));
+        if (radii == null) {
+            radii = new CornerRadii(topLeft, topRight, bottomRight, bottomLeft, false);
+            CACHE.put(key, radii);
+        }
+        return radii;
+    }
+
+    private static Object lookup(Object key) {
+        Object value = CACHE.get(key);
+        if (value != null) {
+            hits++;
+        } else {
+            misses++;
+        }
+        return value;
+    }
+}
@@ -1,9 +1,22 @@
 module MeidoFX {
     requires javafx.controls;
     requires java.logging;
+    requires jdk.jfr;
+    requires org.kordamp.ikonli.core;
+    requires org.kordamp.ikonli.javafx;
+    requires org.kordamp.ikonli.feather;
 
     opens id.alphareso.meidofx;
 
     exports id.alphareso.meidofx.base.stages;
     exports id.alphareso.meidofx.base.handlers;
+    exports id.alphareso.meidofx.base.enums;
+    exports id.alphareso.meidofx.base.titles;
+    exports id.alphareso.meidofx.base.controls;
+    exports id.alphareso.meidofx.base.dialogs;
+    exports id.alphareso.meidofx.base.sidebars;
+    exports id.alphareso.meidofx.base.themes;
+    exports id.alphareso.meidofx.base.workspace;
+    exports id.alphareso.meidofx.base.diagnostics;
+    exports id.alphareso.meidofx.util;
 }